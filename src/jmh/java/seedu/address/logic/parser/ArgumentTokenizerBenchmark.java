@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DELETE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SELLER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@code ArgumentTokenizer} with {@code LegacyArgumentTokenizer} on the arguments of long {@code add} and
+ * {@code edit} commands, with the prefixes their parsers recognize. Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_TAG, PREFIX_SELLER, PREFIX_PRICE};
+    private static final Prefix[] EDIT_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+        PREFIX_TAG, PREFIX_SELLER, PREFIX_PRICE, PREFIX_ADD_TAG, PREFIX_DELETE_TAG};
+
+    /** Number of tags in each command, which is what makes commands long. */
+    @Param({"2", "32"})
+    public int tagCount;
+
+    private String addArgs;
+    private String editArgs;
+
+    /**
+     * Builds the arguments of an {@code add property} and an {@code edit property} command with {@code tagCount}
+     * tags each.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder tags = new StringBuilder();
+        StringBuilder tagEdits = new StringBuilder();
+        for (int i = 0; i < tagCount; i++) {
+            tags.append(" t/tag").append(i);
+            tagEdits.append(" ta/added").append(i).append(" td/deleted").append(i);
+        }
+        addArgs = " property n/Blk 123 Clementi a/123, Clementi Rd, #04-20, 1234665 s/James Lee p/61234567"
+                + " e/jameslee@example.com $/1000000" + tags;
+        editArgs = " property 2 n/Blk 456 Bedok a/456, Bedok North Ave 3, #10-01, 460456 s/Jane Tan"
+                + " p/98765432 e/janetan@example.com $/850000" + tagEdits;
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(addArgs, ADD_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddLegacy() {
+        return LegacyArgumentTokenizer.tokenize(addArgs, ADD_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeEdit() {
+        return ArgumentTokenizer.tokenize(editArgs, EDIT_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeEditLegacy() {
+        return LegacyArgumentTokenizer.tokenize(editArgs, EDIT_PREFIXES);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address;
+
+import static seedu.address.commons.core.Messages.MESSAGE_FILE_COMMAND_WITHOUT_UI;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.UiAction;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The entry point to run commands without the user interface, on machines with no display.
+ * Commands are read one per line from the script file given as an argument, or from standard input if there is
+ * none, and the feedback on each of them is printed. The address book and config are loaded and saved as by the
+ * application. Unlike {@link Main}, this never starts the JavaFX toolkit: the model only uses JavaFX collections.
+ *
+ * The process exits with status 0 if every command succeeded, 1 if any failed, and 2 if it could not run or could
+ * not save the address book. Save failures are printed as they happen, as saving runs in the background.
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--config=CONFIG_FILE] [SCRIPT_FILE]";
+    public static final String MESSAGE_CANNOT_READ = "Could not read commands: ";
+
+    private static final String CONFIG_PARAMETER = "--config=";
+    private static final int STATUS_COMMAND_FAILED = 1;
+    private static final int STATUS_CANNOT_RUN = 2;
+
+    public static void main(String[] args) {
+        Path configPath = null;
+        Path scriptPath = null;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_PARAMETER) && configPath == null
+                    && FileUtil.isValidPath(arg.substring(CONFIG_PARAMETER.length()))) {
+                configPath = Paths.get(arg.substring(CONFIG_PARAMETER.length()));
+            } else if (!arg.startsWith("-") && scriptPath == null && FileUtil.isValidPath(arg)) {
+                scriptPath = Paths.get(arg);
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(STATUS_CANNOT_RUN);
+            }
+        }
+
+        AppBackend backend = new AppBackend(configPath);
+        AtomicBoolean hasSaveFailed = new AtomicBoolean();
+        backend.getLogic().setSaveFailureHandler(message -> {
+            hasSaveFailed.set(true);
+            System.err.println(message);
+        });
+        int status;
+        try (BufferedReader in = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath)) {
+            int failureCount = run(backend.getLogic(), in, System.out, System.err);
+            status = failureCount == 0 ? 0 : STATUS_COMMAND_FAILED;
+        } catch (IOException e) {
+            System.err.println(MESSAGE_CANNOT_READ + e.getMessage());
+            status = STATUS_CANNOT_RUN;
+        } finally {
+            backend.stop();
+        }
+        System.exit(hasSaveFailed.get() ? STATUS_CANNOT_RUN : status);
+    }
+
+    /**
+     * Executes each non-blank line read from {@code in} as a command, until the input ends or a command asks to exit.
+     * The feedback on each command is printed to {@code out}, and the error of each failed command to {@code err}.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException If {@code in} cannot be read.
+     */
+    static int run(Logic logic, BufferedReader in, PrintStream out, PrintStream err) throws IOException {
+        int failureCount = 0;
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ParsedCommand parsedCommand = logic.parse(line);
+                if (parsedCommand.getPreAction().requiresFile()) {
+                    throw new ParseException(MESSAGE_FILE_COMMAND_WITHOUT_UI);
+                }
+                CommandResult commandResult = logic.execute(parsedCommand);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.getUiAction() == UiAction.EXIT) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(line + ": " + e.getMessage());
+                failureCount++;
+            }
+        }
+        return failureCount;
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** A json snapshot, followed by a journal of the changes made since it was written. */
+    JSON,
+    /** A compact binary snapshot. */
+    BINARY
+}
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Integer commandServerPort = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the loopback port on which to accept commands from other programs, or null if they are not accepted.
+     */
+    public Integer getCommandServerPort() {
+        return commandServerPort;
+    }
+
+    public void setCommandServerPort(Integer commandServerPort) {
+        this.commandServerPort = commandServerPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +56,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(commandServerPort, o.commandServerPort);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, commandServerPort);
     }
 
     @Override
@@ -57,6 +70,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCommand server port : " + commandServerPort);
         return sb.toString();
     }
 
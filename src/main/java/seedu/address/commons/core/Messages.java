@@ -11,5 +11,9 @@ public class Messages {
     public static final String MESSAGE_PROPERTIES_LISTED_OVERVIEW = "%1$d properties listed!";
     public static final String MESSAGE_INVALID_BUYER_DISPLAYED_INDEX = "The buyer index provided is invalid";
     public static final String MESSAGE_BUYERS_LISTED_OVERVIEW = "%1$d buyers listed!";
+    public static final String MESSAGE_MATCHES_LISTED_OVERVIEW = "%1$d buyers matched with %2$d properties!";
+    public static final String MESSAGE_BUYER_MATCHES_LISTED_OVERVIEW = "%1$d properties matched for %2$s!";
+    public static final String MESSAGE_FILE_COMMAND_WITHOUT_UI =
+            "Commands that need a file to be chosen cannot be run without the user interface";
 
 }
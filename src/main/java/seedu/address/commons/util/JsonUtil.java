@@ -11,6 +11,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +94,33 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that streams the JSON content of {@code file}.
+     * Values can be read from the parser with {@link JsonParser#readValueAs(Class)} one at a time,
+     * with the same settings as {@link #fromJsonString(String, Class)}. The caller must close the parser.
+     * @param file cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonParser createParser(Path file) throws IOException {
+        requireNonNull(file);
+        return objectMapper.getFactory().createParser(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a generator that streams JSON content to {@code file}, overwriting it if it exists.
+     * Values can be written to the generator with {@link JsonGenerator#writeObject(Object)} one at a time,
+     * with the same settings as {@link #toJsonString(Object)}. The caller must close the generator.
+     * @param file cannot be null
+     * @param isCompact true if the content should be written without line breaks and indentation
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonGenerator createGenerator(Path file, boolean isCompact) throws IOException {
+        requireNonNull(file);
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(Files.newOutputStream(file), JsonEncoding.UTF8);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +140,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * The execution of a single command on the model's writer thread, which the user interface can wait for and cancel.
+ * A command cancelled before it starts is never run. One cancelled while it runs cannot be stopped, as commands are
+ * not interruptible, so it runs to its end and is then rolled back.
+ *
+ * @see Logic#execute(ParsedCommand, File, java.util.function.BooleanSupplier)
+ */
+public class CommandExecution implements BackgroundTask {
+
+    public static final String MESSAGE_RUNNING = "Running \"%1$s\"...";
+
+    private final ParsedCommand command;
+    private final File file;
+    private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+    private final CompletableFuture<String> feedback;
+
+    private volatile boolean isCancelled;
+
+    /**
+     * Creates the execution of {@code command}, with {@code file} if it requires one, which starts when it is run.
+     */
+    CommandExecution(ParsedCommand command, File file) {
+        this.command = requireNonNull(command);
+        this.file = file;
+        feedback = result.handle((commandResult, error) -> commandResult != null
+                ? commandResult.getFeedbackToUser()
+                : unwrap(error).getMessage());
+    }
+
+    /**
+     * Executes the command with {@code logic}, unless it was cancelled. Must be run on the model's writer thread.
+     */
+    void run(Logic logic) {
+        if (isCancelled) {
+            result.completeExceptionally(new CommandException(LogicManager.COMMAND_CANCELLED_MESSAGE));
+            return;
+        }
+        try {
+            result.complete(logic.execute(command, file, () -> isCancelled));
+        } catch (CommandException e) {
+            result.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a future that is completed with the result of the command, or exceptionally with the
+     * {@code CommandException} it failed with, or was cancelled with.
+     */
+    public CompletableFuture<CommandResult> getResult() {
+        return result;
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format(MESSAGE_RUNNING, command.getCommandText());
+    }
+
+    /**
+     * Returns a negative number, as the progress of a single command is unknown.
+     */
+    @Override
+    public double getProgress() {
+        return -1;
+    }
+
+    /**
+     * Requests that the command is not run, or is rolled back once it has run.
+     */
+    @Override
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    @Override
+    public CompletableFuture<String> getFeedback() {
+        return feedback;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
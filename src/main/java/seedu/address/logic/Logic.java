@@ -2,11 +2,16 @@ package seedu.address.logic;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ParsedCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -18,7 +23,74 @@ import seedu.address.model.property.Property;
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Parses the command entered by the user, so that it can be executed once its pre-action is done.
+     * Parsing does not read the model, so it can be done on any thread while commands modify the model on another.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the parsed command, with the pre-action it requires.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    ParsedCommand parse(String commandText) throws ParseException;
+
+    /**
+     * Executes a parsed command that does not require a file and returns the result.
+     *
+     * @param command The command, as parsed by {@link #parse(String)}.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(ParsedCommand command) throws CommandException;
+
+    /**
+     * Executes a parsed command that requires a file and returns the result.
+     *
+     * @param command The command, as parsed by {@link #parse(String)}.
+     * @param file File chosen by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(ParsedCommand command, File file) throws CommandException;
+
+    /**
+     * Executes a parsed command, with {@code file} if it requires one, and returns the result, unless
+     * {@code isCancelled} is true once the command has run. The modifications made by a cancelled command are rolled
+     * back instead of being kept, and any background task it started is cancelled.
+     * Undo and redo cannot be rolled back, so they are never cancelled once they have run.
+     *
+     * @param command The command, as parsed by {@link #parse(String)}.
+     * @param file File chosen by the user, if the command requires one.
+     * @param isCancelled Whether the command was cancelled while it ran.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command was cancelled.
+     */
+    CommandResult execute(ParsedCommand command, File file, BooleanSupplier isCancelled) throws CommandException;
+
+    /**
+     * Parses every line of a script into a command, so that the script is only run if all of its lines are valid.
+     * Like {@link #parse(String)}, this does not read the model.
+     *
+     * @param script The commands entered by the user, one per line.
+     * @return the parsed commands, in order.
+     * @throws ParseException If any line is invalid, describing the error on every such line.
+     */
+    List<ParsedCommand> parseScript(String script) throws ParseException;
+
+    /**
+     * Starts executing the commands of a script, as parsed by {@link #parseScript(String)}, as a single transaction
+     * that is undone as one step and saved once. The commands are run on {@code executor}, a few at a time, by the
+     * background task of the returned result, which gives the feedback on the script once it ends. Whether the
+     * script is rolled back when one of its commands fails is set by the user prefs.
+     * No other command can be executed until the script ends.
+     *
+     * @param script The commands of the script.
+     * @param executor Runs the commands, on the thread that may access the model.
+     * @return the result of having started the script.
+     * @throws CommandException If another script is still running.
+     */
+    CommandResult executeScript(List<ParsedCommand> script, Executor executor) throws CommandException;
+
+    /**
+     * Parses and executes a command that does not require a file, and returns the result.
      *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
@@ -27,9 +99,8 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
-
     /**
-     * Executes the command and returns the result.
+     * Parses and executes a command that requires a file, and returns the result.
      *
      * @param commandText The command as entered by the user.
      * @param file File chosen by the user.
@@ -40,11 +111,22 @@ public interface Logic {
     CommandResult execute(String commandText, File file) throws CommandException, ParseException;
 
     /**
-     * @param commandText The command as entered by the user.
-     * @return True if the command requires a file to be executed.
-     * @throws ParseException If commandText does not fit expected format.
+     * Sets the handler that is given an error message whenever the address book fails to save.
+     * Saving happens in the background, so the handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Runs {@code commands}, which executes commands through this logic, and saves the address book once after it
+     * has run, if the commands modified it, instead of after each of them.
      */
-    CommandPreAction getCommandPreAction(String commandText) throws ParseException;
+    void executeSavingOnce(Runnable commands);
+
+    /**
+     * Blocks until the changes made by every command executed so far have been saved, retrying the last save once
+     * if it failed.
+     */
+    void flush();
 
     /**
      * Returns the AddressBook.
@@ -63,6 +145,25 @@ public interface Logic {
      */
     ObservableList<Buyer> getFilteredBuyerList();
 
+    /**
+     * Returns the number of buyers matching {@code property}.
+     *
+     * @see seedu.address.model.Model#getMatchingBuyerCount(Property)
+     */
+    int getMatchingBuyerCount(Property property);
+
+    /**
+     * Adds a listener that is given each property whose number of matching buyers changed.
+     *
+     * @see seedu.address.model.Model#addMatchingBuyerCountListener(Consumer)
+     */
+    void addMatchingBuyerCountListener(Consumer<Property> listener);
+
+    /**
+     * Returns an {@code Observable} that is invalidated whenever the matches between buyers and properties change.
+     */
+    Observable getMatchTable();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,25 +1,34 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.CommandWithFile;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.UiAction;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,11 +37,17 @@ import seedu.address.storage.Storage;
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     public static final String COMMANDTEXT_INVALID_MESSAGE = "commandText is invalid";
+    public static final String SCRIPT_RUNNING_MESSAGE =
+            "A script is still running. Wait for it to end, or cancel it, before entering another command.";
+    public static final String COMMAND_CANCELLED_MESSAGE = "The command was cancelled, so nothing was changed";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver addressBookSaver;
+    private ScriptExecution runningScript;
+    private boolean isSaveDeferred;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,40 +56,150 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        addressBookSaver = new AsyncAddressBookSaver(storage, model.getAddressBookVersion());
+    }
+
+    @Override
+    public ParsedCommand parse(String commandText) throws ParseException {
+        return addressBookParser.parse(commandText);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(new ParsedCommand(commandText, addressBookParser.parseCommand(commandText)));
+    }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+    @Override
+    public CommandResult execute(ParsedCommand parsedCommand) throws CommandException {
+        assert !parsedCommand.getPreAction().requiresFile() : COMMANDTEXT_INVALID_MESSAGE;
+        return execute(parsedCommand, null, () -> false);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, File file) throws CommandException, ParseException {
+        ParsedCommand parsedCommand = addressBookParser.parse(commandText);
+        assert parsedCommand.getPreAction().requiresFile() : COMMANDTEXT_INVALID_MESSAGE;
+        return execute(parsedCommand, file);
+    }
+
+    @Override
+    public CommandResult execute(ParsedCommand parsedCommand, File file) throws CommandException {
+        assert parsedCommand.getPreAction().requiresFile() : COMMANDTEXT_INVALID_MESSAGE;
+        return execute(parsedCommand, file, () -> false);
+    }
+
+    @Override
+    public CommandResult execute(ParsedCommand parsedCommand, File file, BooleanSupplier isCancelled)
+            throws CommandException {
+        requireNonNull(isCancelled);
+        boolean requiresFile = parsedCommand.getPreAction().requiresFile();
+        logger.info("----------------[" + (requiresFile ? "USER COMMAND WITH FILE" : "USER COMMAND") + "]["
+                + parsedCommand.getCommandText() + "]");
+        requireNoRunningScript();
 
+        CommandResult commandResult;
+        // Undo and redo move between undo steps instead of recording one, so they cannot be rolled back.
+        boolean isUndoable = requiresFile || parsedCommand.getCommand().canRunInScript();
+        boolean isRolledBack = false;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            if (requiresFile) {
+                commandResult = parsedCommand.getCommandWithFile().execute(model, file);
+            } else {
+                Command command = parsedCommand.getCommand();
+                long previousVersion = model.getAddressBookVersion();
+                commandResult = command.execute(model);
+                assert command.isMutating() || model.getAddressBookVersion() == previousVersion
+                        : "Command declared as non-mutating modified the address book";
+            }
+        } finally {
+            // Whatever the command modified, even if it then failed, is undone as one step, or rolled back at once
+            // if the command was cancelled while it ran.
+            isRolledBack = isUndoable && isCancelled.getAsBoolean();
+            if (isRolledBack) {
+                model.rollbackUndoStep();
+            } else {
+                model.commitUndoStep();
+            }
         }
+        saveIfModified();
 
+        if (isRolledBack) {
+            commandResult.getBackgroundTask().ifPresent(BackgroundTask::cancel);
+            throw new CommandException(COMMAND_CANCELLED_MESSAGE);
+        }
         return commandResult;
     }
 
     @Override
-    public CommandResult execute(String commandText, File file) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND WITH FILE][" + commandText + "]");
+    public List<ParsedCommand> parseScript(String script) throws ParseException {
+        return addressBookParser.parseScript(script);
+    }
 
-        CommandResult commandResult;
-        Optional<CommandWithFile> command = addressBookParser.parseCommandWithFile(commandText);
-        assert !command.isEmpty() : COMMANDTEXT_INVALID_MESSAGE;
-        commandResult = command.get().execute(model, file);
+    @Override
+    public CommandResult executeScript(List<ParsedCommand> script, Executor executor) throws CommandException {
+        logger.info("----------------[USER SCRIPT][" + script.size() + " commands]");
+        requireNoRunningScript();
+
+        ScriptExecution execution = new ScriptExecution(model, script,
+                model.getUserPrefs().shouldRollbackScriptOnFailure(), executor, this::endScript);
+        runningScript = execution;
+        execution.start();
+        return new CommandResult(execution.getDescription(), UiAction.NONE, execution);
+    }
 
-        return commandResult;
+    /**
+     * Ends the running script, whose modifications, if it kept any, are undone as one step and saved together.
+     */
+    private void endScript() {
+        runningScript = null;
+        model.commitUndoStep();
+        saveIfModified();
+    }
+
+    private void requireNoRunningScript() throws CommandException {
+        if (runningScript != null) {
+            throw new CommandException(SCRIPT_RUNNING_MESSAGE);
+        }
+    }
+
+    /**
+     * Saves the address book in the background if it was modified since it was last saved successfully, so that a
+     * failed save is retried by the next call.
+     * Nothing is saved while a batch of modifications is open, so that a batch is saved once, when it is committed,
+     * nor while commands are being executed to be saved once.
+     */
+    private void saveIfModified() {
+        long version = model.getAddressBookVersion();
+        if (version != addressBookSaver.getSavedVersion() && !model.isBatching() && !isSaveDeferred) {
+            addressBookSaver.save(AddressBookSnapshot.of(model.getAddressBook()), version);
+        }
+    }
+
+    @Override
+    public void executeSavingOnce(Runnable commands) {
+        requireNonNull(commands);
+        assert !isSaveDeferred : "Commands executed to be saved once cannot be nested";
+        isSaveDeferred = true;
+        try {
+            commands.run();
+        } finally {
+            isSaveDeferred = false;
+            saveIfModified();
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        addressBookSaver.setFailureHandler((IOException ioe) -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
     }
 
     @Override
-    public CommandPreAction getCommandPreAction(String commandText) throws ParseException {
-        return addressBookParser.getCommandPreAction(commandText);
+    public void flush() {
+        addressBookSaver.flush();
+        // Retries the last save if it failed, so that changes are not lost to a failure that has since cleared.
+        saveIfModified();
+        addressBookSaver.flush();
     }
 
     @Override
@@ -92,6 +217,21 @@ public class LogicManager implements Logic {
         return model.getFilteredBuyerList();
     }
 
+    @Override
+    public int getMatchingBuyerCount(Property property) {
+        return model.getMatchingBuyerCount(property);
+    }
+
+    @Override
+    public void addMatchingBuyerCountListener(Consumer<Property> listener) {
+        model.addMatchingBuyerCountListener(listener);
+    }
+
+    @Override
+    public Observable getMatchTable() {
+        return model.getMatchTable();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
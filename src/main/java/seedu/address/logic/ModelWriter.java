@@ -0,0 +1,377 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Executes commands on a single background thread, the only one that modifies the model while the user interface
+ * runs, so that slow commands never block the user interface.
+ * The user interface instead shows copies of the filtered lists and of the match counts of the properties in them.
+ * After every task run on the writer's thread, the changes made to the filtered lists since the last task, and the
+ * counts of the properties whose matches changed, are published to the user interface, which applies them to its
+ * copies through its executor. Changes published before the user interface has applied the previous ones are
+ * applied together with them, so the user interface is updated once however many commands ran in the meantime.
+ */
+public class ModelWriter implements Executor {
+
+    private static final String THREAD_NAME = "model-writer";
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ThreadPoolExecutor writer;
+    private final Queue<ModelChanges> unshownChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isShowScheduled = new AtomicBoolean();
+
+    // Only accessed on the user interface's thread.
+    private final ObservableList<Property> shownProperties;
+    private final ObservableList<Buyer> shownBuyers;
+    private final ShownMatchCounts shownMatchCounts;
+
+    // Only accessed on the writer's thread, on which the model notifies its listeners.
+    /** The counts last published for the properties in the filtered list, or null for those not yet published. */
+    private final Map<Property, Integer> publishedMatchCounts = new IdentityHashMap<>();
+    private final Set<Property> staleMatchCounts = Collections.newSetFromMap(new IdentityHashMap<>());
+    private List<ListEdit<Property>> propertyEdits = new ArrayList<>();
+    private List<ListEdit<Buyer>> buyerEdits = new ArrayList<>();
+    /** The counts changed since the last publication, with null for properties no longer in the filtered list. */
+    private Map<Property, Integer> changedMatchCounts = new IdentityHashMap<>();
+
+    /**
+     * Creates a writer that executes commands with {@code logic}, and shows their changes through
+     * {@code uiExecutor}, which runs tasks on the user interface's thread.
+     * Must be created before the model is modified on any thread other than the writer's. The lists and counts
+     * shown start out empty, and are filled with what the model holds by the first changes published.
+     */
+    public ModelWriter(Logic logic, Executor uiExecutor) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ModelWriter::newWriterThread);
+
+        shownProperties = FXCollections.observableArrayList();
+        shownBuyers = FXCollections.observableArrayList();
+        shownMatchCounts = new ShownMatchCounts();
+        execute(this::followModel);
+    }
+
+    /**
+     * Starts following the changes to the model, and publishes its current filtered lists as changes that fill the
+     * empty lists shown. Runs on the writer's thread, so that the model is read there rather than on the user
+     * interface's thread.
+     */
+    private void followModel() {
+        List<Property> properties = logic.getFilteredPropertyList();
+        if (!properties.isEmpty()) {
+            propertyEdits.add(new ListEdit<>(0, 0, List.copyOf(properties)));
+        }
+        for (Property property : properties) {
+            publishedMatchCounts.put(property, null);
+            staleMatchCounts.add(property);
+        }
+        List<Buyer> buyers = logic.getFilteredBuyerList();
+        if (!buyers.isEmpty()) {
+            buyerEdits.add(new ListEdit<>(0, 0, List.copyOf(buyers)));
+        }
+
+        logic.getFilteredPropertyList().addListener((ListChangeListener<Property>) change -> {
+            while (change.next()) {
+                propertyEdits.add(ListEdit.of(change));
+                for (Property removed : change.getRemoved()) {
+                    publishedMatchCounts.remove(removed);
+                    changedMatchCounts.put(removed, null);
+                }
+                for (Property added : change.getAddedSubList()) {
+                    publishedMatchCounts.put(added, null);
+                    staleMatchCounts.add(added);
+                }
+            }
+        });
+        logic.getFilteredBuyerList().addListener((ListChangeListener<Buyer>) change -> {
+            while (change.next()) {
+                buyerEdits.add(ListEdit.of(change));
+            }
+        });
+        logic.addMatchingBuyerCountListener(staleMatchCounts::add);
+    }
+
+    /**
+     * Runs {@code task}, which may modify the model, on the writer's thread after the tasks submitted before it,
+     * and then publishes what it changed to the user interface.
+     */
+    @Override
+    public void execute(Runnable task) {
+        writer.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                publish();
+            }
+        });
+    }
+
+    /**
+     * Starts executing {@code command}, with {@code file} if it requires one, on the writer's thread.
+     *
+     * @see Logic#execute(ParsedCommand, File, java.util.function.BooleanSupplier)
+     */
+    public CommandExecution execute(ParsedCommand command, File file) {
+        CommandExecution execution = new CommandExecution(command, file);
+        execute(() -> execution.run(logic));
+        return execution;
+    }
+
+    /**
+     * Starts executing the commands of a script on the writer's thread, a few at a time.
+     * The returned future is completed with the result of having started the script, or exceptionally with the
+     * {@code CommandException} it could not be started with.
+     *
+     * @see Logic#executeScript(List, Executor)
+     */
+    public CompletableFuture<CommandResult> executeScript(List<ParsedCommand> script) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                result.complete(logic.executeScript(script, this));
+            } catch (CommandException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for every command submitted so far, including the rest of any script being executed, to end, and
+     * then stops the writer's thread. Does nothing if it was already stopped.
+     */
+    public void stop() {
+        if (writer.isShutdown()) {
+            return;
+        }
+        try {
+            // A script submits its next commands as it runs, so the writer is waited for until it is idle.
+            do {
+                writer.submit(() -> { }).get();
+            } while (!writer.getQueue().isEmpty());
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.shutdown();
+    }
+
+    /**
+     * Returns the filtered list of properties as last published, to be shown on the user interface's thread.
+     */
+    public ObservableList<Property> getShownPropertyList() {
+        return FXCollections.unmodifiableObservableList(shownProperties);
+    }
+
+    /**
+     * Returns the filtered list of buyers as last published, to be shown on the user interface's thread.
+     */
+    public ObservableList<Buyer> getShownBuyerList() {
+        return FXCollections.unmodifiableObservableList(shownBuyers);
+    }
+
+    /**
+     * Returns the number of buyers matching {@code property}, as last published, or 0 if the property was not in the
+     * filtered list then. Must be called on the user interface's thread.
+     */
+    public int getShownMatchingBuyerCount(Property property) {
+        return shownMatchCounts.get(property);
+    }
+
+    /**
+     * Returns an {@code Observable} that is invalidated, on the user interface's thread, whenever the match counts
+     * shown change.
+     */
+    public Observable getShownMatchCounts() {
+        return shownMatchCounts;
+    }
+
+    /**
+     * Publishes the changes made to the filtered lists since they were last published, and the counts that changed
+     * of the properties in the filtered property list. The user interface is asked to show them unless it has yet
+     * to show earlier ones, in which case it shows them together.
+     */
+    private void publish() {
+        for (Property property : staleMatchCounts) {
+            if (!publishedMatchCounts.containsKey(property)) {
+                continue;
+            }
+            Integer count = logic.getMatchingBuyerCount(property);
+            if (!count.equals(publishedMatchCounts.put(property, count))) {
+                changedMatchCounts.put(property, count);
+            }
+        }
+        staleMatchCounts.clear();
+        if (propertyEdits.isEmpty() && buyerEdits.isEmpty() && changedMatchCounts.isEmpty()) {
+            return;
+        }
+
+        unshownChanges.add(new ModelChanges(propertyEdits, buyerEdits, changedMatchCounts));
+        propertyEdits = new ArrayList<>();
+        buyerEdits = new ArrayList<>();
+        changedMatchCounts = new IdentityHashMap<>();
+        if (isShowScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::show);
+        }
+    }
+
+    /**
+     * Shows the changes published since the user interface was last updated.
+     */
+    private void show() {
+        // Cleared first, so that changes published from now on are shown by another call.
+        isShowScheduled.set(false);
+        boolean isMatchCountsChanged = false;
+        for (ModelChanges changes = unshownChanges.poll(); changes != null; changes = unshownChanges.poll()) {
+            // The counts are shown first, so that the cells of newly shown properties are drawn with their counts.
+            shownMatchCounts.update(changes.matchCounts);
+            isMatchCountsChanged |= !changes.matchCounts.isEmpty();
+            changes.propertyEdits.forEach(edit -> edit.applyTo(shownProperties));
+            changes.buyerEdits.forEach(edit -> edit.applyTo(shownBuyers));
+        }
+        if (isMatchCountsChanged) {
+            shownMatchCounts.fireInvalidated();
+        }
+    }
+
+    private static Thread newWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * The changes to the parts of the model published together.
+     */
+    private static class ModelChanges {
+        private final List<ListEdit<Property>> propertyEdits;
+        private final List<ListEdit<Buyer>> buyerEdits;
+        private final Map<Property, Integer> matchCounts;
+
+        ModelChanges(List<ListEdit<Property>> propertyEdits, List<ListEdit<Buyer>> buyerEdits,
+                Map<Property, Integer> matchCounts) {
+            this.propertyEdits = propertyEdits;
+            this.buyerEdits = buyerEdits;
+            this.matchCounts = matchCounts;
+        }
+    }
+
+    /**
+     * A copy of a single change to a list, which replaces a range of its elements with others.
+     */
+    private static class ListEdit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        private ListEdit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        /**
+         * Returns a copy of the current step of {@code change}.
+         * Permutations and updates are copied as the replacement of their range with its new contents.
+         */
+        static <T> ListEdit<T> of(ListChangeListener.Change<? extends T> change) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                return new ListEdit<>(from, change.getTo() - from,
+                        List.copyOf(change.getList().subList(from, change.getTo())));
+            }
+            return new ListEdit<>(from, change.getRemovedSize(), List.copyOf(change.getAddedSubList()));
+        }
+
+        /**
+         * Makes the same change to {@code list}, which must hold what the changed list held before it.
+         */
+        void applyTo(ObservableList<T> list) {
+            if (from == 0 && removedSize == list.size()) {
+                list.setAll(added);
+            } else if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+            } else {
+                if (removedSize > 0) {
+                    list.remove(from, from + removedSize);
+                }
+                if (!added.isEmpty()) {
+                    list.addAll(from, added);
+                }
+            }
+        }
+    }
+
+    /**
+     * The match counts shown, which notifies its listeners once for every batch of counts updated.
+     */
+    private static class ShownMatchCounts implements Observable {
+        private final Map<Property, Integer> counts = new IdentityHashMap<>();
+        private final List<InvalidationListener> listeners = new ArrayList<>();
+
+        int get(Property property) {
+            return counts.getOrDefault(property, 0);
+        }
+
+        /**
+         * Sets the counts in {@code changedCounts}, removing those of the properties mapped to null.
+         */
+        void update(Map<Property, Integer> changedCounts) {
+            changedCounts.forEach((property, count) -> {
+                if (count == null) {
+                    counts.remove(property);
+                } else {
+                    counts.put(property, count);
+                }
+            });
+        }
+
+        void fireInvalidated() {
+            for (InvalidationListener listener : new ArrayList<>(listeners)) {
+                listener.invalidated(this);
+            }
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            listeners.remove(listener);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * The execution of the commands of a script as a single transaction, which is undone as one step and saved once.
+ * The commands are run on the given executor a few at a time, rather than all at once, so that the progress of a
+ * long script can be shown, and the script cancelled, while it runs. If the script is rolled back, because it was
+ * cancelled or because one of its commands failed, none of its modifications are kept.
+ */
+class ScriptExecution implements BackgroundTask {
+
+    public static final String MESSAGE_RUNNING = "Running %1$d commands...";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands";
+    public static final String MESSAGE_COMMAND_FAILED = "\"%1$s\" failed: %2$s";
+    public static final String MESSAGE_ROLLED_BACK = "%1$s\nThe script was rolled back, so nothing was changed";
+    public static final String MESSAGE_PARTIAL_SUCCESS = "Ran %1$d of %2$d commands. These failed:\n%3$s";
+    public static final String MESSAGE_CANCELLED = "The script was cancelled and rolled back, so nothing was changed";
+
+    /** How long the commands of a script may run before the executor's other work, such as showing them, can run. */
+    private static final long SLICE_NANOS = 50_000_000;
+
+    private final Model model;
+    private final List<ParsedCommand> commands;
+    private final boolean isRollbackOnFailure;
+    private final Executor executor;
+    private final Runnable onEnd;
+    private final List<String> failures = new ArrayList<>();
+    private final CompletableFuture<String> feedback = new CompletableFuture<>();
+
+    private volatile int executedCount;
+    private volatile boolean isCancelled;
+
+    /**
+     * Creates the execution of {@code commands} on {@code model}, which starts when {@link #start()} is called.
+     * The modifications made since the model's last undo step are rolled back, rather than kept, if the script is
+     * cancelled, or if {@code isRollbackOnFailure} and a command fails. {@code onEnd} is run on the executor once the
+     * commands have run or been rolled back, before the feedback is given.
+     */
+    ScriptExecution(Model model, List<ParsedCommand> commands, boolean isRollbackOnFailure, Executor executor,
+            Runnable onEnd) {
+        requireAllNonNull(model, commands, executor, onEnd);
+        assert !commands.isEmpty();
+        this.model = model;
+        this.commands = List.copyOf(commands);
+        this.isRollbackOnFailure = isRollbackOnFailure;
+        this.executor = executor;
+        this.onEnd = onEnd;
+    }
+
+    /**
+     * Starts running the commands on the executor.
+     */
+    void start() {
+        executor.execute(this::runSlice);
+    }
+
+    /**
+     * Runs commands until the slice of time is up, or the script ends, and then lets the executor run other work
+     * before the next slice.
+     */
+    private void runSlice() {
+        long sliceEnd = System.nanoTime() + SLICE_NANOS;
+        try {
+            while (executedCount < commands.size()) {
+                if (isCancelled) {
+                    rollback(MESSAGE_CANCELLED);
+                    return;
+                }
+                if (System.nanoTime() - sliceEnd > 0) {
+                    executor.execute(this::runSlice);
+                    return;
+                }
+                if (!runNextCommand()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // A command that fails unexpectedly may have left its modifications incomplete, so none are kept.
+            model.rollbackUndoStep();
+            onEnd.run();
+            feedback.completeExceptionally(e);
+            throw e;
+        }
+
+        onEnd.run();
+        if (failures.isEmpty()) {
+            feedback.complete(String.format(MESSAGE_SUCCESS, commands.size()));
+        } else {
+            feedback.complete(String.format(MESSAGE_PARTIAL_SUCCESS, commands.size() - failures.size(),
+                    commands.size(), String.join("\n", failures)));
+        }
+    }
+
+    /**
+     * Runs the next command, and returns false if the script was rolled back because it failed.
+     */
+    private boolean runNextCommand() {
+        ParsedCommand command = commands.get(executedCount);
+        try {
+            command.getCommand().execute(model);
+        } catch (CommandException ce) {
+            String failure = String.format(MESSAGE_COMMAND_FAILED, command.getCommandText(), ce.getMessage());
+            if (isRollbackOnFailure) {
+                rollback(String.format(MESSAGE_ROLLED_BACK, failure));
+                return false;
+            }
+            failures.add(failure);
+        }
+        executedCount++;
+        return true;
+    }
+
+    private void rollback(String message) {
+        model.rollbackUndoStep();
+        onEnd.run();
+        feedback.complete(message);
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format(MESSAGE_RUNNING, commands.size());
+    }
+
+    @Override
+    public double getProgress() {
+        return (double) executedCount / commands.size();
+    }
+
+    /**
+     * Requests that the script stops before its next command, and is rolled back.
+     */
+    @Override
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    @Override
+    public CompletableFuture<String> getFeedback() {
+        return feedback;
+    }
+}
@@ -46,4 +46,8 @@ public abstract class AddCommand extends Command {
             + PREFIX_TAG + "621 sqft "
             + PREFIX_TAG + "EW23 Clementi";
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
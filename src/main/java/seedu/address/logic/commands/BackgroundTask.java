@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Work started by a command that carries on in the background after the command has returned.
+ */
+public interface BackgroundTask {
+
+    /**
+     * Returns a short description of the task, to show while it runs.
+     */
+    String getDescription();
+
+    /**
+     * Returns the fraction of the task done so far, from 0 to 1, or a negative number if it is not known.
+     */
+    double getProgress();
+
+    /**
+     * Requests that the task stops early.
+     */
+    void cancel();
+
+    /**
+     * Returns a future that is completed with the feedback to show the user once the task ends, however it ends.
+     */
+    CompletableFuture<String> getFeedback();
+}
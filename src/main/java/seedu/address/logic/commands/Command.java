@@ -17,4 +17,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may modify the address book, in which case the address book has to be
+     * saved afterwards.
+     */
+    public abstract boolean isMutating();
+
+    /**
+     * Returns true if this command can be run as one of the commands of a script, which are undone together and
+     * whose results are summarised rather than acted upon.
+     */
+    public boolean canRunInScript() {
+        return true;
+    }
+
 }
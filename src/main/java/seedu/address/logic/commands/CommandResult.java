@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -14,12 +15,24 @@ public class CommandResult {
     /** UiAction to be completed after execution */
     private final UiAction uiAction;
 
+    /** Work started by the command that is still running, if any */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, UiAction uiAction) {
+    public CommandResult(String feedbackToUser, UiAction uiAction, BackgroundTask backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.uiAction = uiAction;
+        this.backgroundTask = backgroundTask;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code uiAction},
+     * and no background task.
+     */
+    public CommandResult(String feedbackToUser, UiAction uiAction) {
+        this(feedbackToUser, uiAction, null);
     }
 
     /**
@@ -38,6 +51,10 @@ public class CommandResult {
         return uiAction;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -51,12 +68,13 @@ public class CommandResult {
 
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
-                && uiAction == otherCommandResult.uiAction;
+                && uiAction == otherCommandResult.uiAction
+                && Objects.equals(backgroundTask, otherCommandResult.backgroundTask);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, uiAction);
+        return Objects.hash(feedbackToUser, uiAction, backgroundTask);
     }
 
     @Override
@@ -1,29 +1,90 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
 
 /**
- * Deletes an entity (property or buyer) identified using it's displayed index from the address book.
+ * Deletes entities (properties or buyers) identified using their displayed indexes from the address book.
  */
 public abstract class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the property/buyer identified by the index number used in the displayed property/buyer list.\n"
-            + "Parameters: (property|buyer) INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + "property 1";
+            + ": Deletes the properties/buyers identified by the index numbers used in the displayed property/buyer "
+            + "list.\n"
+            + "Parameters: (property|buyer) INDEX [MORE_INDEXES]... (must be positive integers)\n"
+            + "Example: " + COMMAND_WORD + " property 1 3";
 
-    protected final Index targetIndex;
+    protected final List<Index> targetIndexes;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Creates a command deleting the entities at each of {@code targetIndexes}, which must not be empty.
+     */
+    public DeleteCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty();
+        this.targetIndexes = List.copyOf(targetIndexes);
+    }
+
+    /**
+     * Returns the entities of {@code lastShownList} at the target indexes, each only once, from the last one in the
+     * list to the first. Deleting them in this order only moves entities that are yet to be deleted.
+     *
+     * @throws CommandException with {@code invalidIndexMessage} if any target index is out of bounds.
+     */
+    protected <T> List<T> getTargets(List<T> lastShownList, String invalidIndexMessage) throws CommandException {
+        TreeSet<Integer> positions = new TreeSet<>();
+        for (Index index : targetIndexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(invalidIndexMessage);
+            }
+            positions.add(index.getZeroBased());
+        }
+
+        List<T> targets = new ArrayList<>(positions.size());
+        for (int position : positions.descendingSet()) {
+            targets.add(lastShownList.get(position));
+        }
+        return targets;
+    }
+
+    /**
+     * Deletes each of {@code targets} with {@code deleter}, as a single batch of modifications to {@code model}.
+     * The batch is rolled back if any deletion fails.
+     */
+    protected static <T> void deleteAll(Model model, List<T> targets, Consumer<T> deleter) {
+        model.beginBatch();
+        try {
+            targets.forEach(deleter);
+        } catch (RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
+        }
+        model.commitBatch();
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((DeleteCommand) other).targetIndexes)); // state check
     }
 }
@@ -69,6 +69,11 @@ public abstract class EditCommand extends Command {
     public static final String MESSAGE_DUPLICATE_ADD_AND_DELETE_TAG = "A tag cannot be both added and deleted.";
 
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     protected Pair<Set<Tag>, String> getTags(Taggable taggableToEdit,
                                              EditCommand.EditTaggableDescriptor editTaggableDescriptor) {
         String messageEditTaggableTags = "";
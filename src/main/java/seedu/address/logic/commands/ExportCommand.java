@@ -1,5 +1,10 @@
 package seedu.address.logic.commands;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.storage.CsvExportTask;
+
 public abstract class ExportCommand extends CommandWithFile {
     public static final String COMMAND_WORD = "export";
 
@@ -7,9 +12,16 @@ public abstract class ExportCommand extends CommandWithFile {
 
     public static final String BUYERS = "buyers";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports buyers or properties from csv file.\n"
+    public static final String FILTERED = "filtered";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports buyers or properties to csv file. "
+            + "Add " + FILTERED + " to only export those currently listed.\n"
             + "Examples: " + COMMAND_WORD + " " + BUYERS + "\n"
-            + COMMAND_WORD + " " + PROPERTIES + "\n";
+            + COMMAND_WORD + " " + PROPERTIES + " " + FILTERED + "\n";
+
+    public static final String MESSAGE_STARTED = "Exporting %d %s...";
+
+    public static final String MESSAGE_IN_PROGRESS = "Exporting %s";
 
     public static final String MESSAGE_CANCELLED = "Export %s was cancelled.";
 
@@ -18,4 +30,71 @@ public abstract class ExportCommand extends CommandWithFile {
 
     public static final String MESSAGE_SUCCESS = "Successfully exported %s";
 
+    private final boolean isFilteredOnly;
+
+    /**
+     * Creates an ExportCommand that exports only the listed entries if {@code isFilteredOnly} is true.
+     */
+    protected ExportCommand(boolean isFilteredOnly) {
+        this.isFilteredOnly = isFilteredOnly;
+    }
+
+    protected boolean isFilteredOnly() {
+        return isFilteredOnly;
+    }
+
+    /**
+     * Returns the result of having started {@code export} of {@code target} in the background.
+     * The feedback on how the export ended is given by the result's background task.
+     */
+    protected static CommandResult startedExport(CsvExportTask export, String target) {
+        return new CommandResult(String.format(MESSAGE_STARTED, export.getTotalCount(), target), UiAction.NONE,
+                new ExportTask(export, target));
+    }
+
+    /**
+     * A csv export running in the background, as seen by the user.
+     */
+    private static class ExportTask implements BackgroundTask {
+        private final CsvExportTask export;
+        private final String target;
+        private final CompletableFuture<String> feedback;
+
+        ExportTask(CsvExportTask export, String target) {
+            this.export = export;
+            this.target = target;
+            feedback = export.getCompletion().handle((exportedCount, error) -> getFeedback(error));
+        }
+
+        @Override
+        public String getDescription() {
+            return String.format(MESSAGE_IN_PROGRESS, target);
+        }
+
+        @Override
+        public double getProgress() {
+            int totalCount = export.getTotalCount();
+            return totalCount == 0 ? 1 : (double) export.getExportedCount() / totalCount;
+        }
+
+        @Override
+        public void cancel() {
+            export.cancel();
+        }
+
+        @Override
+        public CompletableFuture<String> getFeedback() {
+            return feedback;
+        }
+
+        private String getFeedback(Throwable error) {
+            if (error == null) {
+                return String.format(MESSAGE_SUCCESS, target);
+            } else if (error instanceof CancellationException) {
+                return String.format(MESSAGE_CANCELLED, target);
+            } else {
+                return String.format(MESSAGE_FAILURE, target);
+            }
+        }
+    }
 }
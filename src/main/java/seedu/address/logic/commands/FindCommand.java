@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
@@ -9,13 +11,14 @@ import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.field.ContainsTagsPredicate;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.property.Property;
 
 /**
- * Finds and lists all properties in address book whose name contains any of the argument keywords and whose tags
- * contain all the argument tags.
- * Keyword matching is case-insensitive.
- * Tag matching is case-insensitive.
+ * Finds and lists all properties in address book whose name contains any of the argument keywords, whose tags
+ * contain all the argument tags and whose price lies within the argument price bounds.
+ * Keyword matching is case-insensitive and is resolved through the address book's property name index.
+ * Tag matching is case-insensitive and is resolved through the address book's bitmap tag index.
  */
 public class FindCommand extends Command {
 
@@ -23,18 +26,23 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all properties whose names contain any of "
             + "the specified keywords (case-insensitive)\n"
-            + "and whose tags contain all of the specified tags.\n"
+            + "and whose tags contain all of the specified tags\n"
+            + "and whose price lies between the specified minimum and maximum prices (inclusive).\n"
             + "The matching properties are displayed as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]..."
             + "[" + PREFIX_TAG + "TAG]..."
+            + "[" + PREFIX_MIN_PRICE + "MIN_PRICE] "
+            + "[" + PREFIX_MAX_PRICE + "MAX_PRICE]"
             + "\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie"
+            + "Example: " + COMMAND_WORD + " alice bob charlie "
             + PREFIX_TAG + "Condo "
-            + PREFIX_TAG + "4 rm ";
+            + PREFIX_TAG + "4 rm "
+            + PREFIX_MIN_PRICE + "800000 "
+            + PREFIX_MAX_PRICE + "1200000";
 
-    private final Predicate<Property> propertyPredicate;
     private final NameContainsKeywordsPredicate namePredicate;
     private final ContainsTagsPredicate tagsPredicate;
+    private final PriceRange priceRange;
 
     /**
      * Creates a FindCommand with only a name predicate.
@@ -52,14 +60,38 @@ public class FindCommand extends Command {
      * @param tagsPredicate Property predicate checking for containment of tags.
      */
     public FindCommand(NameContainsKeywordsPredicate namePredicate, ContainsTagsPredicate tagsPredicate) {
+        this(namePredicate, tagsPredicate, PriceRange.ALL);
+    }
+
+    /**
+     * Creates a FindCommand that composes the given predicates and restricts prices to the given range.
+     *
+     * @param namePredicate Property predicate checking for name match.
+     * @param tagsPredicate Property predicate checking for containment of tags.
+     * @param priceRange Range that property prices must lie within.
+     */
+    public FindCommand(NameContainsKeywordsPredicate namePredicate, ContainsTagsPredicate tagsPredicate,
+            PriceRange priceRange) {
         this.namePredicate = namePredicate;
         this.tagsPredicate = tagsPredicate;
-        this.propertyPredicate = namePredicate.and(tagsPredicate);
+        this.priceRange = priceRange;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        Predicate<Property> propertyPredicate = model.getPropertyTagsPredicate(tagsPredicate.getTags());
+        if (!priceRange.isUnbounded()) {
+            propertyPredicate = model.getPropertyPricePredicate(priceRange).and(propertyPredicate);
+        }
+        if (!namePredicate.getKeywords().isEmpty()) {
+            propertyPredicate = model.getPropertyNamePredicate(namePredicate.getKeywords()).and(propertyPredicate);
+        }
         model.updateFilteredPropertyList(propertyPredicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PROPERTIES_LISTED_OVERVIEW, model.getFilteredPropertyList().size()));
@@ -70,6 +102,7 @@ public class FindCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && namePredicate.equals(((FindCommand) other).namePredicate)
-                && tagsPredicate.equals(((FindCommand) other).tagsPredicate)); // state check
+                && tagsPredicate.equals(((FindCommand) other).tagsPredicate)
+                && priceRange.equals(((FindCommand) other).priceRange)); // state check
     }
 }
@@ -14,6 +14,16 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean canRunInScript() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, UiAction.HELP);
@@ -0,0 +1,20 @@
+package seedu.address.logic.commands;
+
+public abstract class ImportCommand extends CommandWithFile {
+    public static final String COMMAND_WORD = "import";
+
+    public static final String PROPERTIES = "properties";
+
+    public static final String BUYERS = "buyers";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports buyers or properties from csv file.\n"
+            + "Examples: " + COMMAND_WORD + " " + BUYERS + "\n"
+            + COMMAND_WORD + " " + PROPERTIES + "\n";
+
+    public static final String MESSAGE_CANCELLED = "Import %s was cancelled.";
+
+    public static final String MESSAGE_FAILURE = "Import %s failed to read the file.\n%s";
+
+    public static final String MESSAGE_SUCCESS = "Successfully imported %d %s, skipped %d already in the address book";
+
+}
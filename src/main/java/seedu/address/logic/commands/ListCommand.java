@@ -15,6 +15,11 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Listed all properties";
 
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
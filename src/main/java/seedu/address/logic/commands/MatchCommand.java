@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Matches buyers with the properties they can afford and whose tags cover the buyer's tags.
+ * Without an index, matches every buyer and lists the buyers with matches and the properties matched.
+ * With an index, lists the properties matching the buyer at that index of the displayed buyer list.
+ */
+public class MatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "match";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Matches buyers with properties that are within "
+            + "their maximum price and have all of their tags.\n"
+            + "Without an index, lists all buyers with matches and all properties matched.\n"
+            + "With an index, lists the properties matching the buyer identified by the index number used in the "
+            + "displayed buyer list.\n"
+            + "Parameters: [INDEX] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    private final Optional<Index> buyerIndex;
+
+    /**
+     * Creates a MatchCommand that matches every buyer.
+     */
+    public MatchCommand() {
+        this.buyerIndex = Optional.empty();
+    }
+
+    /**
+     * Creates a MatchCommand that matches the buyer at {@code buyerIndex} of the displayed buyer list.
+     */
+    public MatchCommand(Index buyerIndex) {
+        this.buyerIndex = Optional.of(requireNonNull(buyerIndex));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (buyerIndex.isPresent()) {
+            return matchBuyer(model, buyerIndex.get());
+        }
+
+        Map<Buyer, List<Property>> matches = model.getAllMatches();
+        Set<Buyer> matchedBuyers = newIdentitySet();
+        Set<Property> matchedProperties = newIdentitySet();
+        matches.forEach((buyer, properties) -> {
+            if (!properties.isEmpty()) {
+                matchedBuyers.add(buyer);
+                matchedProperties.addAll(properties);
+            }
+        });
+
+        model.updateFilteredBuyerList(matchedBuyers::contains);
+        model.updateFilteredPropertyList(matchedProperties::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_MATCHES_LISTED_OVERVIEW,
+                matchedBuyers.size(), matchedProperties.size()));
+    }
+
+    private CommandResult matchBuyer(Model model, Index index) throws CommandException {
+        List<Buyer> lastShownList = model.getFilteredBuyerList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+        }
+
+        Buyer buyer = lastShownList.get(index.getZeroBased());
+        Set<Property> matchedProperties = newIdentitySet();
+        matchedProperties.addAll(model.getMatchingProperties(buyer));
+        model.updateFilteredPropertyList(matchedProperties::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_BUYER_MATCHES_LISTED_OVERVIEW,
+                matchedProperties.size(), buyer.getName()));
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MatchCommand // instanceof handles nulls
+                && buyerIndex.equals(((MatchCommand) other).buyerIndex)); // state check
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A command parsed from the text entered by the user, together with what has to be done before it is executed.
+ * The text is parsed once, when the handle is created, and the handle is then executed directly.
+ */
+public class ParsedCommand {
+
+    private final String commandText;
+    private final Command command;
+    private final CommandWithFile commandWithFile;
+    private final CommandPreAction preAction;
+
+    /**
+     * Creates a handle for {@code command}, which was parsed from {@code commandText} and does not require a file.
+     */
+    public ParsedCommand(String commandText, Command command) {
+        requireNonNull(commandText);
+        requireNonNull(command);
+        this.commandText = commandText;
+        this.command = command;
+        this.commandWithFile = null;
+        this.preAction = new CommandPreAction();
+    }
+
+    /**
+     * Creates a handle for {@code commandWithFile}, which was parsed from {@code commandText} and requires the user
+     * to choose a file before it is executed.
+     */
+    public ParsedCommand(String commandText, CommandWithFile commandWithFile) {
+        requireNonNull(commandText);
+        requireNonNull(commandWithFile);
+        this.commandText = commandText;
+        this.command = null;
+        this.commandWithFile = commandWithFile;
+        String prompt = commandWithFile.toString();
+        this.preAction = new CommandPreAction(prompt, prompt.startsWith(ExportCommand.COMMAND_WORD));
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    public CommandPreAction getPreAction() {
+        return preAction;
+    }
+
+    /**
+     * Returns the command, which must not require a file.
+     */
+    public Command getCommand() {
+        assert command != null : "The command requires a file";
+        return command;
+    }
+
+    /**
+     * Returns the command, which must require a file.
+     */
+    public CommandWithFile getCommandWithFile() {
+        assert commandWithFile != null : "The command does not require a file";
+        return commandWithFile;
+    }
+}
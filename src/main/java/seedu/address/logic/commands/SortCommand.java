@@ -35,6 +35,11 @@ public abstract class SortCommand extends Command {
         return sortDirection;
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
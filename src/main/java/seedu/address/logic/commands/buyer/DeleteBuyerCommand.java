@@ -13,27 +13,31 @@ import seedu.address.model.Model;
 import seedu.address.model.property.Buyer;
 
 /**
- * Deletes a buyer identified using it's displayed index from the address book.
+ * Deletes buyers identified using their displayed indexes from the address book.
  */
 public class DeleteBuyerCommand extends DeleteCommand {
     public static final String MESSAGE_DELETE_BUYER_SUCCESS = "Deleted Buyer: %1$s";
+    public static final String MESSAGE_DELETE_BUYERS_SUCCESS = "Deleted %1$d buyers";
 
     public DeleteBuyerCommand(Index targetIndex) {
         super(targetIndex);
     }
 
+    public DeleteBuyerCommand(List<Index> targetIndexes) {
+        super(targetIndexes);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Buyer> lastShownList = model.getFilteredBuyerList();
+        List<Buyer> buyersToDelete = getTargets(model.getFilteredBuyerList(),
+                Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        deleteAll(model, buyersToDelete, model::deleteBuyer);
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        if (buyersToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_BUYER_SUCCESS, buyersToDelete.get(0)));
         }
-
-        Buyer buyerToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteBuyer(buyerToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_BUYER_SUCCESS, buyerToDelete));
+        return new CommandResult(String.format(MESSAGE_DELETE_BUYERS_SUCCESS, buyersToDelete.size()));
     }
 
     @Override
@@ -1,32 +1,41 @@
 package seedu.address.logic.commands.buyer;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.List;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.property.Buyer;
 import seedu.address.storage.Storage;
 
 /**
- * Exports buyers to csv file.
+ * Exports buyers to csv file in the background.
  */
 public class ExportBuyersCommand extends ExportCommand {
+
+    /**
+     * Creates an ExportBuyersCommand that exports only the listed buyers if {@code isFilteredOnly} is true.
+     */
+    public ExportBuyersCommand(boolean isFilteredOnly) {
+        super(isFilteredOnly);
+    }
+
     @Override
     public CommandResult execute(Model model, File file) throws CommandException {
         if (file == null) {
             return new CommandResult(String.format(MESSAGE_CANCELLED, BUYERS));
         }
-        try {
-            Storage.exportBuyers(model.getAddressBook(), file);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, BUYERS));
-        } catch (IOException ioe) {
-            return new CommandResult(String.format(MESSAGE_FAILURE, BUYERS));
-        }
+        List<Buyer> buyers = isFilteredOnly()
+                ? model.getFilteredBuyerList()
+                : model.getAddressBook().getBuyerList();
+        return startedExport(Storage.exportBuyersInBackground(buyers, file), BUYERS);
     }
 
     public String toString() {
-        return COMMAND_WORD + ' ' + BUYERS;
+        return isFilteredOnly()
+                ? COMMAND_WORD + ' ' + BUYERS + ' ' + FILTERED
+                : COMMAND_WORD + ' ' + BUYERS;
     }
 }
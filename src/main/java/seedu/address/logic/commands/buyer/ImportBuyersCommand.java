@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.buyer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Buyer;
+import seedu.address.storage.Storage;
+
+/**
+ * Imports buyers from csv file.
+ * Buyers with the same name as one already in the address book are skipped, and the rest are added together.
+ */
+public class ImportBuyersCommand extends ImportCommand {
+    @Override
+    public CommandResult execute(Model model, File file) throws CommandException {
+        if (file == null) {
+            return new CommandResult(String.format(MESSAGE_CANCELLED, BUYERS));
+        }
+        List<Buyer> imported;
+        try {
+            imported = Storage.importBuyers(file);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, BUYERS, ioe.getMessage()), ioe);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, BUYERS, dce.getCause().getMessage()), dce);
+        }
+
+        List<Buyer> toAdd = imported.stream()
+                .filter(buyer -> !model.hasBuyer(buyer))
+                .collect(Collectors.toList());
+        model.addBuyers(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), BUYERS,
+                imported.size() - toAdd.size()));
+    }
+
+    public String toString() {
+        return COMMAND_WORD + ' ' + BUYERS;
+    }
+}
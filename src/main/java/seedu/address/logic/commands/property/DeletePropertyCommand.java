@@ -13,27 +13,31 @@ import seedu.address.model.Model;
 import seedu.address.model.property.Property;
 
 /**
- * Deletes a property identified using it's displayed index from the address book.
+ * Deletes properties identified using their displayed indexes from the address book.
  */
 public class DeletePropertyCommand extends DeleteCommand {
     public static final String MESSAGE_DELETE_PROPERTY_SUCCESS = "Deleted Property: %1$s";
+    public static final String MESSAGE_DELETE_PROPERTIES_SUCCESS = "Deleted %1$d properties";
 
     public DeletePropertyCommand(Index targetIndex) {
         super(targetIndex);
     }
 
+    public DeletePropertyCommand(List<Index> targetIndexes) {
+        super(targetIndexes);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Property> lastShownList = model.getFilteredPropertyList();
+        List<Property> propertiesToDelete = getTargets(model.getFilteredPropertyList(),
+                Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        deleteAll(model, propertiesToDelete, model::deleteProperty);
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        if (propertiesToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PROPERTY_SUCCESS, propertiesToDelete.get(0)));
         }
-
-        Property propertyToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteProperty(propertyToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PROPERTY_SUCCESS, propertyToDelete));
+        return new CommandResult(String.format(MESSAGE_DELETE_PROPERTIES_SUCCESS, propertiesToDelete.size()));
     }
 
     @Override
@@ -1,32 +1,41 @@
 package seedu.address.logic.commands.property;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.List;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.property.Property;
 import seedu.address.storage.Storage;
 
 /**
- * Exports properties to csv file.
+ * Exports properties to csv file in the background.
  */
 public class ExportPropertiesCommand extends ExportCommand {
+
+    /**
+     * Creates an ExportPropertiesCommand that exports only the listed properties if {@code isFilteredOnly} is true.
+     */
+    public ExportPropertiesCommand(boolean isFilteredOnly) {
+        super(isFilteredOnly);
+    }
+
     @Override
     public CommandResult execute(Model model, File file) throws CommandException {
         if (file == null) {
             return new CommandResult(String.format(MESSAGE_CANCELLED, PROPERTIES));
         }
-        try {
-            Storage.exportProperties(model.getAddressBook(), file);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, PROPERTIES));
-        } catch (IOException ioe) {
-            return new CommandResult(String.format(MESSAGE_FAILURE, PROPERTIES));
-        }
+        List<Property> properties = isFilteredOnly()
+                ? model.getFilteredPropertyList()
+                : model.getAddressBook().getPropertyList();
+        return startedExport(Storage.exportPropertiesInBackground(properties, file), PROPERTIES);
     }
 
     public String toString() {
-        return COMMAND_WORD + ' ' + PROPERTIES;
+        return isFilteredOnly()
+                ? COMMAND_WORD + ' ' + PROPERTIES + ' ' + FILTERED
+                : COMMAND_WORD + ' ' + PROPERTIES;
     }
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.property;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.property.Property;
+import seedu.address.storage.Storage;
+
+/**
+ * Imports properties from csv file.
+ * Properties with the same name as one already in the address book are skipped, and the rest are added together.
+ */
+public class ImportPropertiesCommand extends ImportCommand {
+    @Override
+    public CommandResult execute(Model model, File file) throws CommandException {
+        if (file == null) {
+            return new CommandResult(String.format(MESSAGE_CANCELLED, PROPERTIES));
+        }
+        List<Property> imported;
+        try {
+            imported = Storage.importProperties(file);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, PROPERTIES, ioe.getMessage()), ioe);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, PROPERTIES, dce.getCause().getMessage()), dce);
+        }
+
+        List<Property> toAdd = imported.stream()
+                .filter(property -> !model.hasProperty(property))
+                .collect(Collectors.toList());
+        model.addProperties(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), PROPERTIES,
+                imported.size() - toAdd.size()));
+    }
+
+    public String toString() {
+        return COMMAND_WORD + ' ' + PROPERTIES;
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,7 +13,6 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandWithFile;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -18,12 +20,20 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Command words are dispatched through tables of parsers that are created once and reused, as they are stateless.
+ * Parsing never reads the model, so the user interface can parse commands while the model changes on the writer's
+ * thread.
  */
 public class AddressBookParser {
 
@@ -32,53 +42,59 @@ public class AddressBookParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    public static final String MESSAGE_EMPTY_SCRIPT = "The script has no commands";
+    public static final String MESSAGE_SCRIPT_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "This command cannot be run in a script";
+    public static final String MESSAGE_FILE_COMMAND_NOT_IN_SCRIPT =
+            "Commands that need a file to be chosen cannot be run in a script";
+
+    private static final Map<String, Parser<? extends Command>> COMMAND_PARSERS = Map.ofEntries(
+            Map.entry(AddCommand.COMMAND_WORD, new AddCommandParser()),
+            Map.entry(EditCommand.COMMAND_WORD, new EditCommandParser()),
+            Map.entry(DeleteCommand.COMMAND_WORD, new DeleteCommandParser()),
+            Map.entry(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand()),
+            Map.entry(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            Map.entry(ListCommand.COMMAND_WORD, arguments -> new ListCommand()),
+            Map.entry(MatchCommand.COMMAND_WORD, new MatchCommandParser()),
+            Map.entry(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand()),
+            Map.entry(SortCommand.COMMAND_WORD, new SortCommandParser()),
+            Map.entry(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand()),
+            Map.entry(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand()),
+            Map.entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+
+    private static final Map<String, ParserWithFile<? extends CommandWithFile>> COMMAND_WITH_FILE_PARSERS = Map.of(
+            ExportCommand.COMMAND_WORD, new ExportCommandParser(),
+            ImportCommand.COMMAND_WORD, new ImportCommandParser());
+
     /**
-     * Parses user input into command for execution.
+     * Parses user input into a command that may require a file, together with what has to be done before it is
+     * executed.
      *
      * @param userInput full user input string
-     * @return the command based on the user input
+     * @return the parsed command
      * @throws ParseException if the user input does not conform the expected format
      */
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
+    public ParsedCommand parse(String userInput) throws ParseException {
+        final Matcher matcher = matchCommandFormat(userInput);
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        ParserWithFile<? extends CommandWithFile> parserWithFile = COMMAND_WITH_FILE_PARSERS.get(commandWord);
+        if (parserWithFile != null) {
+            return new ParsedCommand(userInput, parserWithFile.parse(arguments));
         }
+        return new ParsedCommand(userInput, parseCommand(commandWord, arguments));
+    }
+
+    /**
+     * Parses user input into command for execution.
+     *
+     * @param userInput full user input string
+     * @return the command based on the user input
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parseCommand(String userInput) throws ParseException {
+        final Matcher matcher = matchCommandFormat(userInput);
+        return parseCommand(matcher.group("commandWord"), matcher.group("arguments"));
     }
 
     /**
@@ -89,26 +105,70 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Optional<CommandWithFile> parseCommandWithFile(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-        case ExportCommand.COMMAND_WORD:
-            return Optional.of(new ExportCommandParser().parse(arguments));
-        default:
+        final Matcher matcher = matchCommandFormat(userInput);
+        ParserWithFile<? extends CommandWithFile> parser = COMMAND_WITH_FILE_PARSERS.get(matcher.group("commandWord"));
+        if (parser == null) {
             return Optional.empty();
         }
+        return Optional.of(parser.parse(matcher.group("arguments")));
+    }
+
+    /**
+     * Parses each non-blank line of {@code script} into a command, so that none of them is run unless all of them
+     * are valid.
+     *
+     * @param script lines of user input
+     * @return the commands of the script, in order
+     * @throws ParseException listing the error on every invalid line, if any line is invalid
+     */
+    public List<ParsedCommand> parseScript(String script) throws ParseException {
+        List<ParsedCommand> commands = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        String[] lines = script.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            try {
+                commands.add(parseScriptLine(lines[i]));
+            } catch (ParseException pe) {
+                errors.add(String.format(MESSAGE_SCRIPT_LINE, i + 1, pe.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ParseException(String.join("\n", errors));
+        }
+        if (commands.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_SCRIPT);
+        }
+        return commands;
+    }
+
+    private ParsedCommand parseScriptLine(String line) throws ParseException {
+        ParsedCommand parsedCommand = parse(line);
+        if (parsedCommand.getPreAction().requiresFile()) {
+            throw new ParseException(MESSAGE_FILE_COMMAND_NOT_IN_SCRIPT);
+        }
+        if (!parsedCommand.getCommand().canRunInScript()) {
+            throw new ParseException(MESSAGE_NOT_IN_SCRIPT);
+        }
+        return parsedCommand;
     }
 
-    public CommandPreAction getCommandPreAction(String userInput) throws ParseException {
-        Optional<CommandWithFile> command = parseCommandWithFile(userInput);
-        if (command.isEmpty()) {
-            return new CommandPreAction();
+    private Command parseCommand(String commandWord, String arguments) throws ParseException {
+        Parser<? extends Command> parser = COMMAND_PARSERS.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
+
+    private Matcher matchCommandFormat(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
-        return new CommandPreAction(command.get().toString(),
-                command.get().toString().startsWith(ExportCommand.COMMAND_WORD));
+        return matcher;
     }
 }
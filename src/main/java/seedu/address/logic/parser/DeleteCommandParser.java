@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ACTOR;
 
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.buyer.DeleteBuyerCommand;
@@ -15,8 +17,7 @@ import seedu.address.model.field.Actor;
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
     private static final int ACTOR_POSITIONAL_INDEX = 0;
-    private static final int INDEX_POSITIONAL_INDEX = 1;
-    private static final int NUM_OF_PREAMBLE_ARGS = 2;
+    private static final int FIRST_INDEX_POSITIONAL_INDEX = 1;
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
@@ -25,17 +26,16 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         Actor actor;
-        Index index;
+        List<Index> indexes;
 
         try {
-            ParserUtil.assertPreambleArgsCount(args, NUM_OF_PREAMBLE_ARGS);
             actor = ParserUtil.parseActor(args, ACTOR_POSITIONAL_INDEX);
-            index = ParserUtil.parseIndex(args, INDEX_POSITIONAL_INDEX);
+            indexes = ParserUtil.parseIndexes(args, FIRST_INDEX_POSITIONAL_INDEX);
             switch (actor) {
             case PROPERTY:
-                return new DeletePropertyCommand(index);
+                return new DeletePropertyCommand(indexes);
             case BUYER:
-                return new DeleteBuyerCommand(index);
+                return new DeleteBuyerCommand(indexes);
             default:
                 throw new ParseException(MESSAGE_INVALID_ACTOR);
             }
@@ -11,8 +11,9 @@ import seedu.address.model.field.Actor;
 /**
  * Parses input arguments and creates a new ExportCommand object
  */
-public class ExportCommandParser {
+public class ExportCommandParser implements ParserWithFile<ExportCommand> {
     private static final int ACTOR_POSITIONAL_INDEX = 0;
+    private static final int FILTERED_POSITIONAL_INDEX = 1;
     private static final int NUM_OF_PREAMBLE_ARGUMENTS = 1;
 
     /**
@@ -23,13 +24,17 @@ public class ExportCommandParser {
      */
     public ExportCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
-        ParserUtil.assertPreambleArgsCount(argMultimap.getPreamble(), NUM_OF_PREAMBLE_ARGUMENTS);
+        String[] preambleArgs = argMultimap.getPreamble().trim().split("\\s+");
+        boolean isFilteredOnly = preambleArgs.length > FILTERED_POSITIONAL_INDEX
+                && preambleArgs[FILTERED_POSITIONAL_INDEX].equals(ExportCommand.FILTERED);
+        ParserUtil.assertPreambleArgsCount(argMultimap.getPreamble(),
+                isFilteredOnly ? NUM_OF_PREAMBLE_ARGUMENTS + 1 : NUM_OF_PREAMBLE_ARGUMENTS);
         Actor actor = ParserUtil.parseActor(args, ACTOR_POSITIONAL_INDEX);
         switch (actor) {
         case PROPERTY:
-            return new ExportPropertiesCommand();
+            return new ExportPropertiesCommand(isFilteredOnly);
         case BUYER:
-            return new ExportBuyersCommand();
+            return new ExportBuyersCommand(isFilteredOnly);
         default:
             throw new ParseException(MESSAGE_INVALID_ACTOR);
         }
@@ -1,12 +1,15 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_PRICE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -15,6 +18,8 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.field.ContainsTagsPredicate;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.Price;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -33,15 +38,29 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_MIN_PRICE, PREFIX_MAX_PRICE);
         String keywords = argMultimap.getPreamble();
         List<String> nameKeywords = Arrays.stream(keywords.split("\\s+"))
                 .filter(Predicate.not(String::isBlank))
                 .collect(Collectors.toList());
         Set<Tag> tagsFilter = parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        PriceRange priceRange = parsePriceRange(argMultimap.getValue(PREFIX_MIN_PRICE),
+                argMultimap.getValue(PREFIX_MAX_PRICE));
 
         return new FindCommand(new NameContainsKeywordsPredicate(nameKeywords),
-                new ContainsTagsPredicate(tagsFilter));
+                new ContainsTagsPredicate(tagsFilter), priceRange);
+    }
+
+    /**
+     * Parses the optional {@code min} and {@code max} price bounds into a {@code PriceRange}.
+     */
+    private PriceRange parsePriceRange(Optional<String> min, Optional<String> max) throws ParseException {
+        Optional<Price> minPrice = min.isPresent() ? Optional.of(ParserUtil.parsePrice(min.get())) : Optional.empty();
+        Optional<Price> maxPrice = max.isPresent() ? Optional.of(ParserUtil.parsePrice(max.get())) : Optional.empty();
+        if (minPrice.isPresent() && maxPrice.isPresent() && minPrice.get().compareTo(maxPrice.get()) > 0) {
+            throw new ParseException(PriceRange.MESSAGE_CONSTRAINTS);
+        }
+        return new PriceRange(minPrice, maxPrice);
     }
 
     /**
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MatchCommand object
+ */
+public class MatchCommandParser implements Parser<MatchCommand> {
+    private static final int INDEX_POSITIONAL_INDEX = 0;
+    private static final int NUM_OF_PREAMBLE_ARGS = 1;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MatchCommand
+     * and returns a MatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MatchCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new MatchCommand();
+        }
+
+        try {
+            ParserUtil.assertPreambleArgsCount(args, NUM_OF_PREAMBLE_ARGS);
+            Index index = ParserUtil.parseIndex(args, INDEX_POSITIONAL_INDEX);
+            return new MatchCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -98,6 +99,25 @@ public class ParserUtil {
         return parseIndex(splitInputs[index]);
     }
 
+    /**
+     * Parses every word of {@code args} from the given position onwards into an {@code Index}, and returns them
+     * in order. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if there is no word at the given position, or any of the words is not a valid index.
+     */
+    public static List<Index> parseIndexes(String args, int fromIndex) throws ParseException {
+        String[] splitInputs = args.trim().split("\\s+");
+        if (fromIndex >= splitInputs.length) {
+            throw new ParseException(MESSAGE_INVALID_PREAMBLE);
+        }
+
+        List<Index> indexes = new ArrayList<>();
+        for (int i = fromIndex; i < splitInputs.length; i++) {
+            indexes.add(parseIndex(splitInputs[i]));
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,16 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.CommandWithFile;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Represents a Parser that is able to parse user input into a {@code CommandWithFile} of type {@code T}.
+ */
+public interface ParserWithFile<T extends CommandWithFile> {
+
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     * @throws ParseException if {@code userInput} does not conform the expected format
+     */
+    T parse(String userInput) throws ParseException;
+}
@@ -2,16 +2,30 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
+import seedu.address.model.match.MatchEngine;
+import seedu.address.model.match.MatchTable;
 import seedu.address.model.property.Buyer;
+import seedu.address.model.property.PriceIndex;
 import seedu.address.model.property.Property;
+import seedu.address.model.property.PropertyNameIndex;
+import seedu.address.model.property.TagIndex;
 import seedu.address.model.property.UniqueBuyerList;
 import seedu.address.model.property.UniquePropertyList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Wraps all data at the address-book level
@@ -21,6 +35,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePropertyList properties;
     private final UniqueBuyerList buyers;
+    private final PropertyNameIndex propertyNameIndex;
+    private final TagIndex<Property> propertyTagIndex;
+    private final PriceIndex<Property> propertyPriceIndex;
+    private final PriceIndex<Buyer> buyerPriceIndex;
+    private final MatchEngine matchEngine;
+    private final MatchTable matchTable;
+    private long version;
+    private long batchStartVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -32,6 +54,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         properties = new UniquePropertyList();
         buyers = new UniqueBuyerList();
+        propertyNameIndex = new PropertyNameIndex();
+        properties.addIndex(propertyNameIndex);
+        propertyTagIndex = new TagIndex<>();
+        properties.addIndex(propertyTagIndex);
+        propertyPriceIndex = new PriceIndex<>(property -> property.getPrice().value);
+        properties.addIndex(propertyPriceIndex);
+        buyerPriceIndex = new PriceIndex<>(buyer -> buyer.getMaxPrice().value);
+        buyers.addIndex(buyerPriceIndex);
+        matchEngine = new MatchEngine(propertyPriceIndex, propertyTagIndex, buyerPriceIndex);
+        matchTable = new MatchTable(matchEngine);
+        properties.addIndex(matchTable.getPropertyIndex());
+        buyers.addIndex(matchTable.getBuyerIndex());
     }
 
     public AddressBook() {}
@@ -52,6 +86,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setProperties(List<Property> properties) {
         this.properties.setProperties(properties);
+        version++;
     }
 
     /**
@@ -60,15 +95,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setBuyers(List<Buyer> buyers) {
         this.buyers.setBuyers(buyers);
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The matches between the new buyers and properties are counted once, after both lists are replaced.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setBuyers(newData.getBuyerList());
-        setProperties(newData.getPropertyList());
+        matchTable.suspend();
+        try {
+            setBuyers(newData.getBuyerList());
+            setProperties(newData.getPropertyList());
+        } finally {
+            matchTable.resume(getPropertyList(), getBuyerList());
+        }
     }
 
     //// property-level operations
@@ -87,6 +129,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addProperty(Property p) {
         properties.add(p);
+        version++;
+    }
+
+    /**
+     * Inserts a property into the address book at {@code position} of its property list.
+     * The property must not already exist in the address book.
+     */
+    public void addProperty(int position, Property p) {
+        properties.add(position, p);
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book together, as a single change to its property list.
+     * None of the properties may already exist in the address book, or have the same identity as each other.
+     */
+    public void addProperties(List<Property> toAdd) {
+        properties.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -99,6 +160,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedProperty);
 
         properties.setProperty(target, editedProperty);
+        version++;
     }
 
     /**
@@ -107,6 +169,82 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeProperty(Property key) {
         properties.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the position of {@code property} in the property list, or -1 if it is not in the address book.
+     */
+    public int indexOfProperty(Property property) {
+        return properties.indexOf(property);
+    }
+
+    /**
+     * Returns a predicate that tests whether a property's name contains any of the given {@code keywords}
+     * as a full word, ignoring case. The predicate is answered from the property name index of this address book.
+     */
+    public Predicate<Property> getPropertyNamePredicate(Collection<String> keywords) {
+        return propertyNameIndex.containsAnyWord(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether a property carries every tag in {@code tags}.
+     * The predicate is answered from the property tag index of this address book.
+     */
+    public Predicate<Property> getPropertyTagsPredicate(Set<Tag> tags) {
+        return propertyTagIndex.containsAllTags(TagSet.of(tags));
+    }
+
+    /**
+     * Returns a predicate that tests whether a property's price lies within {@code range}.
+     * The predicate is answered from the property price index of this address book.
+     */
+    public Predicate<Property> getPropertyPricePredicate(PriceRange range) {
+        return propertyPriceIndex.inRange(range);
+    }
+
+    //// matching operations
+
+    /**
+     * Returns the properties in this address book matching {@code buyer}, in no particular order.
+     *
+     * @see MatchEngine
+     */
+    public List<Property> getMatchingProperties(Buyer buyer) {
+        requireNonNull(buyer);
+        return matchEngine.getMatchingProperties(buyer);
+    }
+
+    /**
+     * Returns the properties in this address book matching each buyer in it, keyed by buyer in list order.
+     *
+     * @see MatchEngine
+     */
+    public Map<Buyer, List<Property>> getAllMatches() {
+        return matchEngine.getAllMatchingProperties(getBuyerList());
+    }
+
+    /**
+     * Returns the number of buyers in this address book matching {@code property}, which must be in it.
+     * The count is read from the match table of this address book, which is kept up to date on every change.
+     */
+    public int getMatchingBuyerCount(Property property) {
+        requireNonNull(property);
+        return matchTable.getMatchingBuyerCount(property);
+    }
+
+    /**
+     * Adds a listener that is given each property in this address book whose number of matching buyers changed.
+     */
+    public void addMatchingBuyerCountListener(Consumer<Property> listener) {
+        matchTable.addCountListener(listener);
+    }
+
+    /**
+     * Returns an {@code Observable} that is invalidated whenever the matches in this address book change.
+     */
+    public Observable getMatchTable() {
+        return matchTable;
     }
 
     //// buyer level operations
@@ -125,6 +263,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addBuyer(Buyer b) {
         buyers.add(b);
+        version++;
+    }
+
+    /**
+     * Inserts a buyer into the address book at {@code position} of its buyer list.
+     * The buyer must not already exist in the address book.
+     */
+    public void addBuyer(int position, Buyer b) {
+        buyers.add(position, b);
+        version++;
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book together, as a single change to its buyer list.
+     * None of the buyers may already exist in the address book, or have the same identity as each other.
+     */
+    public void addBuyers(List<Buyer> toAdd) {
+        buyers.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -137,6 +294,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedBuyer);
 
         buyers.setBuyer(target, editedBuyer);
+        version++;
     }
 
     /**
@@ -145,6 +303,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeBuyer(Buyer key) {
         buyers.remove(key);
+        version++;
+    }
+
+    /**
+     * Returns the position of {@code buyer} in the buyer list, or -1 if it is not in the address book.
+     */
+    public int indexOfBuyer(Buyer buyer) {
+        return buyers.indexOf(buyer);
     }
 
     /**
@@ -152,6 +318,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortProperties(SortType sortType, SortDirection sortDirection) {
         properties.sort(sortType, sortDirection);
+        version++;
     }
 
     /**
@@ -159,6 +326,77 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortBuyers(SortType sortType, SortDirection sortDirection) {
         buyers.sort(sortType, sortDirection);
+        version++;
+    }
+
+    /**
+     * Puts the properties in the order of {@code reordered}, which must hold the same properties as the address book.
+     */
+    public void reorderProperties(List<Property> reordered) {
+        properties.reorder(reordered);
+        version++;
+    }
+
+    /**
+     * Puts the buyers in the order of {@code reordered}, which must hold the same buyers as the address book.
+     */
+    public void reorderBuyers(List<Buyer> reordered) {
+        buyers.reorder(reordered);
+        version++;
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of modifications. Until the batch is committed or rolled back, observers of the property and
+     * buyer lists and of the match table are not notified of any modification, although the address book and its
+     * indexes are modified as usual. Batches cannot be nested.
+     */
+    public void beginBatch() {
+        batchStartVersion = version;
+        properties.beginBatch();
+        buyers.beginBatch();
+        matchTable.beginBatch();
+    }
+
+    /**
+     * Ends the current batch, notifying the observers of each list, and of the match table, once of all the
+     * modifications made during it.
+     */
+    public void commitBatch() {
+        properties.commitBatch();
+        buyers.commitBatch();
+        matchTable.endBatch();
+    }
+
+    /**
+     * Ends the current batch by undoing all the modifications made during it.
+     * The version still changes if the batch made any modification, so it never returns to an earlier value.
+     */
+    public void rollbackBatch() {
+        properties.rollbackBatch();
+        buyers.rollbackBatch();
+        matchTable.endBatch();
+        if (version != batchStartVersion) {
+            version++;
+        }
+    }
+
+    /**
+     * Returns the version of this address book, which is incremented by every operation that modifies it.
+     * If two calls return the same version, the address book was not modified in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this address book, in constant time.
+     * It shares its structure with this address book, and can be read from any thread while this address book
+     * continues to change.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(properties.snapshot(), buyers.snapshot());
     }
 
     //// util methods
@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.field.SortType;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * A modification of an address book, recorded as the operations that undo and redo it.
+ * Undoing applies the inverse operation rather than restoring a copy of the address book, so it costs time
+ * proportional to the modification.
+ */
+final class AddressBookEdit {
+
+    /** Estimated bytes retained by an edit itself. */
+    private static final long EDIT_BYTES = 48;
+    /** Estimated bytes retained by a property or buyer, besides the characters of its fields. */
+    private static final long ELEMENT_BYTES = 256;
+    /** Estimated bytes retained per position of a list snapshot, whose elements are shared with the address book. */
+    private static final long SNAPSHOT_POSITION_BYTES = 40;
+
+    private final Consumer<AddressBook> undo;
+    private final Consumer<AddressBook> redo;
+    private final long estimatedBytes;
+
+    private AddressBookEdit(Consumer<AddressBook> undo, Consumer<AddressBook> redo, long estimatedBytes) {
+        this.undo = undo;
+        this.redo = redo;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Undoes the modification. {@code addressBook} must be as the modification left it.
+     */
+    void undo(AddressBook addressBook) {
+        undo.accept(addressBook);
+    }
+
+    /**
+     * Makes the modification again. {@code addressBook} must be as it was before the modification.
+     */
+    void redo(AddressBook addressBook) {
+        redo.accept(addressBook);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory this edit keeps from being reclaimed.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    //// property edits
+
+    static AddressBookEdit addProperty(Property added) {
+        return new AddressBookEdit(addressBook -> addressBook.removeProperty(added),
+                addressBook -> addressBook.addProperty(added), EDIT_BYTES + estimateBytes(added));
+    }
+
+    static AddressBookEdit addProperties(List<Property> added) {
+        List<Property> copy = List.copyOf(added);
+        return new AddressBookEdit(addressBook -> {
+            // Removing from the end first keeps the positions of the others in the property list accurate.
+            for (int i = copy.size() - 1; i >= 0; i--) {
+                addressBook.removeProperty(copy.get(i));
+            }
+        }, addressBook -> addressBook.addProperties(copy), EDIT_BYTES + estimateBytes(copy));
+    }
+
+    static AddressBookEdit setProperty(Property target, Property editedProperty) {
+        return new AddressBookEdit(addressBook -> addressBook.addProperty(editedProperty, target),
+                addressBook -> addressBook.addProperty(target, editedProperty),
+                EDIT_BYTES + estimateBytes(target) + estimateBytes(editedProperty));
+    }
+
+    static AddressBookEdit removeProperty(int position, Property removed) {
+        return new AddressBookEdit(addressBook -> addressBook.addProperty(position, removed),
+                addressBook -> addressBook.removeProperty(removed), EDIT_BYTES + estimateBytes(removed));
+    }
+
+    static AddressBookEdit sortProperties(List<Property> unsorted, SortType sortType, SortDirection sortDirection) {
+        return new AddressBookEdit(addressBook -> addressBook.reorderProperties(unsorted),
+                addressBook -> addressBook.sortProperties(sortType, sortDirection),
+                EDIT_BYTES + SNAPSHOT_POSITION_BYTES * unsorted.size());
+    }
+
+    //// buyer edits
+
+    static AddressBookEdit addBuyer(Buyer added) {
+        return new AddressBookEdit(addressBook -> addressBook.removeBuyer(added),
+                addressBook -> addressBook.addBuyer(added), EDIT_BYTES + estimateBytes(added));
+    }
+
+    static AddressBookEdit addBuyers(List<Buyer> added) {
+        List<Buyer> copy = List.copyOf(added);
+        return new AddressBookEdit(addressBook -> {
+            // Removing from the end first keeps the positions of the others in the buyer list accurate.
+            for (int i = copy.size() - 1; i >= 0; i--) {
+                addressBook.removeBuyer(copy.get(i));
+            }
+        }, addressBook -> addressBook.addBuyers(copy), EDIT_BYTES + estimateBytes(copy));
+    }
+
+    static AddressBookEdit setBuyer(Buyer target, Buyer editedBuyer) {
+        return new AddressBookEdit(addressBook -> addressBook.addBuyer(editedBuyer, target),
+                addressBook -> addressBook.addBuyer(target, editedBuyer),
+                EDIT_BYTES + estimateBytes(target) + estimateBytes(editedBuyer));
+    }
+
+    static AddressBookEdit removeBuyer(int position, Buyer removed) {
+        return new AddressBookEdit(addressBook -> addressBook.addBuyer(position, removed),
+                addressBook -> addressBook.removeBuyer(removed), EDIT_BYTES + estimateBytes(removed));
+    }
+
+    static AddressBookEdit sortBuyers(List<Buyer> unsorted, SortType sortType, SortDirection sortDirection) {
+        return new AddressBookEdit(addressBook -> addressBook.reorderBuyers(unsorted),
+                addressBook -> addressBook.sortBuyers(sortType, sortDirection),
+                EDIT_BYTES + SNAPSHOT_POSITION_BYTES * unsorted.size());
+    }
+
+    //// address book edits
+
+    /**
+     * Returns the edit that replaced the contents {@code before} of an address book with {@code after}.
+     * Both must be snapshots. The properties and buyers of {@code before} are counted in full, as they are usually
+     * no longer in the address book, while those of {@code after} are.
+     */
+    static AddressBookEdit resetData(AddressBookSnapshot before, AddressBookSnapshot after) {
+        long estimatedBytes = EDIT_BYTES
+                + estimateBytes(before.getPropertyList()) + estimateBytes(before.getBuyerList())
+                + SNAPSHOT_POSITION_BYTES * (after.getPropertyList().size() + after.getBuyerList().size());
+        return new AddressBookEdit(addressBook -> addressBook.resetData(before),
+                addressBook -> addressBook.resetData(after), estimatedBytes);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes used by {@code element}, from the length of its fields.
+     */
+    private static long estimateBytes(Object element) {
+        return ELEMENT_BYTES + 2L * element.toString().length();
+    }
+
+    private static long estimateBytes(List<?> elements) {
+        long bytes = 0;
+        for (Object element : elements) {
+            bytes += SNAPSHOT_POSITION_BYTES + estimateBytes(element);
+        }
+        return bytes;
+    }
+}
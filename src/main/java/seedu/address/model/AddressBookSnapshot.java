@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * An immutable copy of the contents of an address book at some point in time.
+ * Properties and buyers are themselves immutable, so only the lists are copied; the snapshot can be read from any
+ * thread while the original address book continues to change. The lists of an {@code AddressBook} share their
+ * structure with its snapshots, so they are not copied at all.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Property> properties;
+    private final ObservableList<Buyer> buyers;
+
+    /**
+     * Creates a snapshot of the given lists, which must never change.
+     */
+    AddressBookSnapshot(ObservableList<Property> properties, ObservableList<Buyer> buyers) {
+        this.properties = properties;
+        this.buyers = buyers;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return of(addressBook.getPropertyList(), addressBook.getBuyerList());
+    }
+
+    /**
+     * Returns a snapshot holding copies of {@code properties} and {@code buyers}, which are not checked for
+     * duplicates.
+     */
+    public static AddressBookSnapshot of(List<Property> properties, List<Buyer> buyers) {
+        requireNonNull(properties);
+        requireNonNull(buyers);
+        return new AddressBookSnapshot(
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(properties)),
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(buyers)));
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return properties;
+    }
+
+    @Override
+    public ObservableList<Buyer> getBuyerList() {
+        return buyers;
+    }
+}
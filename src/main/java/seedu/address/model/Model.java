@@ -1,14 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -59,6 +66,70 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever the address book is modified.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Starts a batch of modifications to the address book, which ends when it is committed or rolled back.
+     * During a batch, the address book is modified as usual, but the filtered lists, and the observers of the
+     * address book, only see its modifications once the batch is committed, all together as a single change.
+     * The filtered lists keep showing what they showed when the batch began, and changes to their filters also
+     * take effect on commit. Batches cannot be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch, updating the filtered lists and notifying observers of its modifications at once.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the current batch by undoing all the modifications made during it, including changes to the filters.
+     */
+    void rollbackBatch();
+
+    /**
+     * Returns true if a batch has begun and not yet ended.
+     */
+    boolean isBatching();
+
+    /**
+     * Ends the current undo step, so that the modifications made to the address book since the previous step ended
+     * are undone together. Does nothing if there were no such modifications. Must not be called during a batch.
+     */
+    void commitUndoStep();
+
+    /**
+     * Undoes the modifications made to the address book since the previous undo step ended, as a single change, so
+     * that they are neither undone nor redone later. The filters of the filtered lists are left as they are.
+     * Must not be called during a batch.
+     */
+    void rollbackUndoStep();
+
+    /**
+     * Returns true if there is a step of modifications to the address book that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone step of modifications that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Undoes the latest step of modifications to the address book, ending the current step first.
+     * Only as many of the latest steps are kept as fit within {@link ModelManager#UNDO_LOG_CAPACITY_BYTES}.
+     */
+    void undo();
+
+    /**
+     * Redoes the latest undone step of modifications to the address book.
+     * Undone steps can no longer be redone once the address book is modified again.
+     */
+    void redo();
+
     /**
      * Returns true if a property with the same identity as {@code property} exists in the address book.
      */
@@ -76,6 +147,12 @@ public interface Model {
      */
     void addProperty(Property property);
 
+    /**
+     * Adds all of the given properties at once, as a single change to the address book.
+     * None of {@code properties} may already exist in the address book, or have the same identity as each other.
+     */
+    void addProperties(List<Property> properties);
+
     /**
      * Replaces the given property {@code target} with {@code editedProperty}.
      * {@code target} must exist in the address book.
@@ -84,6 +161,51 @@ public interface Model {
      */
     void setProperty(Property target, Property editedProperty);
 
+    /**
+     * Returns a predicate that tests whether a property's name contains any of the given {@code keywords}
+     * as a full word, ignoring case. The predicate is answered from an index rather than by scanning names.
+     */
+    Predicate<Property> getPropertyNamePredicate(List<String> keywords);
+
+    /**
+     * Returns a predicate that tests whether a property carries every tag in {@code tags}.
+     * The predicate is answered from a bitmap index of tags rather than by comparing tag sets.
+     */
+    Predicate<Property> getPropertyTagsPredicate(Set<Tag> tags);
+
+    /**
+     * Returns a predicate that tests whether a property's price lies within {@code range}.
+     */
+    Predicate<Property> getPropertyPricePredicate(PriceRange range);
+
+    /**
+     * Returns the properties matching {@code buyer}, i.e. those it can afford that carry all its tags,
+     * in no particular order.
+     */
+    List<Property> getMatchingProperties(Buyer buyer);
+
+    /**
+     * Returns the properties matching each buyer in the address book, keyed by buyer in list order.
+     */
+    Map<Buyer, List<Property>> getAllMatches();
+
+    /**
+     * Returns the number of buyers matching {@code property}, which must be in the address book.
+     * The count is kept up to date as properties and buyers change, so it is not recomputed on each call.
+     */
+    int getMatchingBuyerCount(Property property);
+
+    /**
+     * Adds a listener that is given each property in the address book whose number of matching buyers changed, as
+     * soon as it changes. Properties added to or removed from the address book are not given to it.
+     */
+    void addMatchingBuyerCountListener(Consumer<Property> listener);
+
+    /**
+     * Returns an {@code Observable} that is invalidated whenever any match between a buyer and a property changes.
+     */
+    Observable getMatchTable();
+
     /** Returns an unmodifiable view of the filtered property list */
     ObservableList<Property> getFilteredPropertyList();
 
@@ -115,6 +237,12 @@ public interface Model {
      */
     void addBuyer(Buyer buyer);
 
+    /**
+     * Adds all of the given buyers at once, as a single change to the address book.
+     * None of {@code buyers} may already exist in the address book, or have the same identity as each other.
+     */
+    void addBuyers(List<Buyer> buyers);
+
     /**
      * Replaces the given buyer {@code target} with {@code editedBuyer}.
      * {@code target} must exist in the address book.
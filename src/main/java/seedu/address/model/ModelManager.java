@@ -4,17 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,11 +31,26 @@ import seedu.address.model.property.Property;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Estimated number of bytes of memory that the modifications kept for undoing may retain. */
+    public static final long UNDO_LOG_CAPACITY_BYTES = 32L * 1024 * 1024;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Property> filteredProperties;
     private final FilteredList<Buyer> filteredBuyers;
 
+    // What the filtered lists showed when the current batch began, and the filters to apply when it is committed.
+    private ObservableList<Property> batchProperties;
+    private ObservableList<Buyer> batchBuyers;
+    private Predicate<Property> batchPropertyPredicate;
+    private Predicate<Buyer> batchBuyerPredicate;
+
+    // The modifications that can be undone, and those made since the last undo step, of which the first
+    // batchStartEditCount were made before the current batch.
+    private final UndoLog undoLog = new UndoLog(UNDO_LOG_CAPACITY_BYTES);
+    private final List<AddressBookEdit> pendingEdits = new ArrayList<>();
+    private int batchStartEditCount;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -85,7 +109,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        pendingEdits.add(AddressBookEdit.resetData(before, this.addressBook.snapshot()));
     }
 
     @Override
@@ -93,6 +119,101 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void beginBatch() {
+        assert !isBatching() : "Batches cannot be nested";
+        AddressBookSnapshot batchStart = addressBook.snapshot();
+        batchProperties = new BatchStartView<>(filteredProperties, batchStart.getPropertyList());
+        batchBuyers = new BatchStartView<>(filteredBuyers, batchStart.getBuyerList());
+        batchStartEditCount = pendingEdits.size();
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        assert isBatching();
+        addressBook.commitBatch();
+        // The filters can only be changed once the filtered lists have been told of the batch's modifications.
+        if (batchPropertyPredicate != null) {
+            filteredProperties.setPredicate(batchPropertyPredicate);
+        }
+        if (batchBuyerPredicate != null) {
+            filteredBuyers.setPredicate(batchBuyerPredicate);
+        }
+        endBatch();
+    }
+
+    @Override
+    public void rollbackBatch() {
+        assert isBatching();
+        addressBook.rollbackBatch();
+        pendingEdits.subList(batchStartEditCount, pendingEdits.size()).clear();
+        endBatch();
+    }
+
+    @Override
+    public boolean isBatching() {
+        return batchProperties != null;
+    }
+
+    private void endBatch() {
+        batchProperties = null;
+        batchBuyers = null;
+        batchPropertyPredicate = null;
+        batchBuyerPredicate = null;
+    }
+
+    @Override
+    public void commitUndoStep() {
+        assert !isBatching() : "A batch cannot be split across undo steps";
+        undoLog.record(pendingEdits);
+        pendingEdits.clear();
+    }
+
+    @Override
+    public void rollbackUndoStep() {
+        assert !isBatching() : "A batch cannot be split across undo steps";
+        addressBook.beginBatch();
+        for (int i = pendingEdits.size() - 1; i >= 0; i--) {
+            pendingEdits.get(i).undo(addressBook);
+        }
+        addressBook.commitBatch();
+        pendingEdits.clear();
+    }
+
+    @Override
+    public boolean canUndo() {
+        return !pendingEdits.isEmpty() || undoLog.canUndo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return pendingEdits.isEmpty() && undoLog.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        assert canUndo();
+        commitUndoStep();
+        // The step is undone as a batch, so that observers are notified of it as one change per list.
+        addressBook.beginBatch();
+        undoLog.undo(addressBook);
+        addressBook.commitBatch();
+    }
+
+    @Override
+    public void redo() {
+        assert canRedo();
+        addressBook.beginBatch();
+        undoLog.redo(addressBook);
+        addressBook.commitBatch();
+    }
+
     @Override
     public boolean hasProperty(Property property) {
         requireNonNull(property);
@@ -101,13 +222,33 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteProperty(Property target) {
+        int position = addressBook.indexOfProperty(target);
         addressBook.removeProperty(target);
+        pendingEdits.add(AddressBookEdit.removeProperty(position, target));
     }
 
     @Override
     public void addProperty(Property property) {
         addressBook.addProperty(property);
-        updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
+        pendingEdits.add(AddressBookEdit.addProperty(property));
+        showAllPropertiesUnlessFilterKept();
+    }
+
+    @Override
+    public void addProperties(List<Property> properties) {
+        addressBook.addProperties(properties);
+        pendingEdits.add(AddressBookEdit.addProperties(properties));
+        showAllPropertiesUnlessFilterKept();
+    }
+
+    /**
+     * Resets the filtered property list to show every property, unless the user prefs keep the filter on add.
+     * A kept filter only has to be evaluated against the added properties.
+     */
+    private void showAllPropertiesUnlessFilterKept() {
+        if (!userPrefs.shouldKeepFilterOnAdd()) {
+            updateFilteredPropertyList(PREDICATE_SHOW_ALL_PROPERTIES);
+        }
     }
 
     @Override
@@ -115,6 +256,53 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedProperty);
 
         addressBook.addProperty(target, editedProperty);
+        pendingEdits.add(AddressBookEdit.setProperty(target, editedProperty));
+    }
+
+    @Override
+    public Predicate<Property> getPropertyNamePredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPropertyNamePredicate(keywords);
+    }
+
+    @Override
+    public Predicate<Property> getPropertyTagsPredicate(Set<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getPropertyTagsPredicate(tags);
+    }
+
+    @Override
+    public Predicate<Property> getPropertyPricePredicate(PriceRange range) {
+        requireNonNull(range);
+        return addressBook.getPropertyPricePredicate(range);
+    }
+
+    @Override
+    public List<Property> getMatchingProperties(Buyer buyer) {
+        requireNonNull(buyer);
+        return addressBook.getMatchingProperties(buyer);
+    }
+
+    @Override
+    public Map<Buyer, List<Property>> getAllMatches() {
+        return addressBook.getAllMatches();
+    }
+
+    @Override
+    public int getMatchingBuyerCount(Property property) {
+        requireNonNull(property);
+        return addressBook.getMatchingBuyerCount(property);
+    }
+
+    @Override
+    public void addMatchingBuyerCountListener(Consumer<Property> listener) {
+        requireNonNull(listener);
+        addressBook.addMatchingBuyerCountListener(listener);
+    }
+
+    @Override
+    public Observable getMatchTable() {
+        return addressBook.getMatchTable();
     }
 
     @Override
@@ -125,13 +313,32 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteBuyer(Buyer target) {
+        int position = addressBook.indexOfBuyer(target);
         addressBook.removeBuyer(target);
+        pendingEdits.add(AddressBookEdit.removeBuyer(position, target));
     }
 
     @Override
     public void addBuyer(Buyer buyer) {
         addressBook.addBuyer(buyer);
-        updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
+        pendingEdits.add(AddressBookEdit.addBuyer(buyer));
+        showAllBuyersUnlessFilterKept();
+    }
+
+    @Override
+    public void addBuyers(List<Buyer> buyers) {
+        addressBook.addBuyers(buyers);
+        pendingEdits.add(AddressBookEdit.addBuyers(buyers));
+        showAllBuyersUnlessFilterKept();
+    }
+
+    /**
+     * Resets the filtered buyer list to show every buyer, unless the user prefs keep the filter on add.
+     */
+    private void showAllBuyersUnlessFilterKept() {
+        if (!userPrefs.shouldKeepFilterOnAdd()) {
+            updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
+        }
     }
 
     @Override
@@ -139,16 +346,21 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedBuyer);
 
         addressBook.addBuyer(target, editedBuyer);
+        pendingEdits.add(AddressBookEdit.setBuyer(target, editedBuyer));
     }
 
     @Override
     public void sortProperties(SortType sortType, SortDirection sortDirection) {
+        List<Property> unsorted = addressBook.snapshot().getPropertyList();
         addressBook.sortProperties(sortType, sortDirection);
+        pendingEdits.add(AddressBookEdit.sortProperties(unsorted, sortType, sortDirection));
     }
 
     @Override
     public void sortBuyers(SortType sortType, SortDirection sortDirection) {
-        addressBook.sortBuyers(sortType, sortDirection);;
+        List<Buyer> unsorted = addressBook.snapshot().getBuyerList();
+        addressBook.sortBuyers(sortType, sortDirection);
+        pendingEdits.add(AddressBookEdit.sortBuyers(unsorted, sortType, sortDirection));
     }
 
     //=========== Filtered Property List Accessors =============================================================
@@ -159,12 +371,16 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Property> getFilteredPropertyList() {
-        return filteredProperties;
+        return isBatching() ? batchProperties : filteredProperties;
     }
 
     @Override
     public void updateFilteredPropertyList(Predicate<Property> predicate) {
         requireNonNull(predicate);
+        if (isBatching()) {
+            batchPropertyPredicate = predicate;
+            return;
+        }
         filteredProperties.setPredicate(predicate);
     }
 
@@ -176,12 +392,16 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Buyer> getFilteredBuyerList() {
-        return filteredBuyers;
+        return isBatching() ? batchBuyers : filteredBuyers;
     }
 
     @Override
     public void updateFilteredBuyerList(Predicate<Buyer> predicate) {
         requireNonNull(predicate);
+        if (isBatching()) {
+            batchBuyerPredicate = predicate;
+            return;
+        }
         filteredBuyers.setPredicate(predicate);
     }
 
@@ -205,4 +425,28 @@ public class ModelManager implements Model {
                 && filteredProperties.equals(other.filteredProperties);
     }
 
+    /**
+     * What a filtered list showed when the current batch began, read in constant time from a snapshot of its source
+     * taken then. The filtered list is not told of the batch's modifications until the batch ends, so until then it
+     * still maps its positions to those of the snapshot.
+     */
+    private static class BatchStartView<E> extends ObservableListBase<E> {
+        private final FilteredList<E> filtered;
+        private final List<E> sourceAtBatchStart;
+
+        BatchStartView(FilteredList<E> filtered, List<E> sourceAtBatchStart) {
+            this.filtered = filtered;
+            this.sourceAtBatchStart = sourceAtBatchStart;
+        }
+
+        @Override
+        public E get(int index) {
+            return sourceAtBatchStart.get(filtered.getSourceIndex(index));
+        }
+
+        @Override
+        public int size() {
+            return filtered.size();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if the filtered lists should keep their filter when properties or buyers are added, instead of
+     * being reset to show everything.
+     */
+    boolean shouldKeepFilterOnAdd();
+
+    /**
+     * Returns true if a script should be rolled back entirely when one of its commands fails, instead of carrying on
+     * with the commands after it.
+     */
+    boolean shouldRollbackScriptOnFailure();
+
 }
@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A log of the steps in which an address book was modified, each of which can be undone and then redone.
+ * A step holds the edits that undo and redo its modifications, rather than a copy of the address book, so undoing it
+ * costs time proportional to its modifications. The log is bounded by the estimated number of bytes its edits
+ * retain, rather than by a number of steps: the oldest steps are discarded once it grows beyond its capacity.
+ */
+class UndoLog {
+
+    private final long capacityBytes;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long estimatedBytes;
+
+    /**
+     * Creates an empty log that retains at most about {@code capacityBytes} bytes.
+     */
+    UndoLog(long capacityBytes) {
+        assert capacityBytes >= 0;
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Records {@code edits}, in the order they were made, as the latest step. The steps that were undone can no
+     * longer be redone. Nothing is recorded if {@code edits} is empty.
+     */
+    void record(List<AddressBookEdit> edits) {
+        if (edits.isEmpty()) {
+            return;
+        }
+        redoSteps.forEach(step -> estimatedBytes -= step.estimatedBytes);
+        redoSteps.clear();
+
+        Step step = new Step(edits);
+        undoSteps.push(step);
+        estimatedBytes += step.estimatedBytes;
+        while (estimatedBytes > capacityBytes && !undoSteps.isEmpty()) {
+            estimatedBytes -= undoSteps.removeLast().estimatedBytes;
+        }
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the latest step in {@code addressBook}, which must be as the step left it.
+     */
+    void undo(AddressBook addressBook) {
+        assert canUndo();
+        Step step = undoSteps.pop();
+        for (int i = step.edits.size() - 1; i >= 0; i--) {
+            step.edits.get(i).undo(addressBook);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Redoes the latest undone step in {@code addressBook}, which must be as it was before the step.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+        Step step = redoSteps.pop();
+        step.edits.forEach(edit -> edit.redo(addressBook));
+        undoSteps.push(step);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory retained by the steps in this log.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * The edits made by one step, in order.
+     */
+    private static class Step {
+        private final List<AddressBookEdit> edits;
+        private final long estimatedBytes;
+
+        Step(List<AddressBookEdit> edits) {
+            this.edits = new ArrayList<>(edits);
+            this.estimatedBytes = edits.stream().mapToLong(AddressBookEdit::getEstimatedBytes).sum();
+        }
+    }
+}
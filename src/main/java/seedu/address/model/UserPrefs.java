@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "propertywhiz.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean keepFilterOnAdd = false;
+    private boolean rollbackScriptOnFailure = true;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setKeepFilterOnAdd(newUserPrefs.shouldKeepFilterOnAdd());
+        setRollbackScriptOnFailure(newUserPrefs.shouldRollbackScriptOnFailure());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean shouldKeepFilterOnAdd() {
+        return keepFilterOnAdd;
+    }
+
+    public void setKeepFilterOnAdd(boolean keepFilterOnAdd) {
+        this.keepFilterOnAdd = keepFilterOnAdd;
+    }
+
+    public boolean shouldRollbackScriptOnFailure() {
+        return rollbackScriptOnFailure;
+    }
+
+    public void setRollbackScriptOnFailure(boolean rollbackScriptOnFailure) {
+        this.rollbackScriptOnFailure = rollbackScriptOnFailure;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +100,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && keepFilterOnAdd == o.keepFilterOnAdd
+                && rollbackScriptOnFailure == o.rollbackScriptOnFailure;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, keepFilterOnAdd,
+                rollbackScriptOnFailure);
     }
 
     @Override
@@ -81,6 +117,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nKeep filter on add : " + keepFilterOnAdd);
+        sb.append("\nRollback script on failure : " + rollbackScriptOnFailure);
         return sb.toString();
     }
 
@@ -6,26 +6,30 @@ import java.util.function.Predicate;
 
 import seedu.address.model.property.Property;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Property}'s {@code Tag}s is a superset of all the given tags.
  */
 public class ContainsTagsPredicate implements Predicate<Property> {
 
-    private final Set<Tag> tags;
+    private final TagSet tags;
 
     public ContainsTagsPredicate() {
         this(Collections.emptySet());
     }
 
     public ContainsTagsPredicate(Set<Tag> tags) {
-        this.tags = tags;
+        this.tags = TagSet.of(tags);
+    }
+
+    public TagSet getTags() {
+        return tags;
     }
 
     @Override
     public boolean test(Property property) {
-        Set<Tag> propertyTags = property.getTags();
-        return propertyTags.containsAll(this.tags);
+        return property.getTags().containsAll(tags);
     }
 
     @Override
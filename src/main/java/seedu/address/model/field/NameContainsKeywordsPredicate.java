@@ -22,6 +22,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Property> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Property property) {
         if (keywords.isEmpty()) {
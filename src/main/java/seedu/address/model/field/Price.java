@@ -3,10 +3,14 @@ package seedu.address.model.field;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 public class Price implements Comparable<Price> {
     public static final String MESSAGE_CONSTRAINTS =
             "Price (in dollars) should only contain numbers, and it should be 3-18 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,18}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final long MAX_PRICE_EXCLUSIVE = 1_000_000_000_000_000_000L;
     public final Long value;
 
     /**
@@ -20,11 +24,28 @@ public class Price implements Comparable<Price> {
         value = Long.parseLong(price);
     }
 
+    /**
+     * Constructs a {@code Price} from its numeric value, as obtained from {@link #value}.
+     *
+     * @param price A valid price value.
+     */
+    public Price(long price) {
+        checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
+        value = price;
+    }
+
+    /**
+     * Returns true if a given value is the value of some valid price.
+     */
+    public static boolean isValidPrice(long test) {
+        return test >= 0 && test < MAX_PRICE_EXCLUSIVE;
+    }
+
     /**
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
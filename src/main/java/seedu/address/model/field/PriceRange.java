@@ -0,0 +1,71 @@
+package seedu.address.model.field;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Optional;
+
+/**
+ * Represents an inclusive range of prices, either end of which may be unbounded.
+ * Guarantees: immutable; the minimum does not exceed the maximum.
+ */
+public class PriceRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "The minimum price should not exceed the maximum price";
+
+    /** The range containing every price. */
+    public static final PriceRange ALL = new PriceRange(Optional.empty(), Optional.empty());
+
+    private final long min;
+    private final long max;
+
+    /**
+     * Constructs a {@code PriceRange} from {@code min} to {@code max} inclusive.
+     * An absent bound leaves that end of the range unbounded.
+     */
+    public PriceRange(Optional<Price> min, Optional<Price> max) {
+        this.min = min.map(price -> price.value).orElse(Long.MIN_VALUE);
+        this.max = max.map(price -> price.value).orElse(Long.MAX_VALUE);
+        checkArgument(this.min <= this.max, MESSAGE_CONSTRAINTS);
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns true if {@code price} lies within this range.
+     */
+    public boolean contains(long price) {
+        return min <= price && price <= max;
+    }
+
+    /**
+     * Returns true if this range contains every price.
+     */
+    public boolean isUnbounded() {
+        return min == Long.MIN_VALUE && max == Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PriceRange // instanceof handles nulls
+                && min == ((PriceRange) other).min
+                && max == ((PriceRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(min) * 31 + Long.hashCode(max);
+    }
+
+    @Override
+    public String toString() {
+        return (min == Long.MIN_VALUE ? "" : String.valueOf(min)) + " to "
+                + (max == Long.MAX_VALUE ? "" : String.valueOf(max));
+    }
+}
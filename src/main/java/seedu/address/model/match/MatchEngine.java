@@ -0,0 +1,160 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import seedu.address.model.field.PriceRange;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.PriceIndex;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.TagIndex;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Matches buyers to the properties they can afford and whose tags cover theirs.
+ * A property matches a buyer if its price does not exceed the buyer's maximum price and it carries every tag
+ * the buyer has.
+ *
+ * Matches are found by joining against the price and tag indexes rather than by comparing every pair.
+ * The properties a buyer can afford form a prefix of the property price index, and the properties carrying the
+ * buyer's tags are the intersection of the tags' bitmaps; the smaller of the two is filtered by the other condition.
+ * The buyers who can afford a property form a suffix of the buyer price index.
+ */
+public class MatchEngine {
+
+    /** Number of elements below which matching is not split further across threads. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final PriceIndex<Property> propertyPriceIndex;
+    private final TagIndex<Property> propertyTagIndex;
+    private final PriceIndex<Buyer> buyerPriceIndex;
+
+    /**
+     * Creates a match engine answering from the given indexes of the properties and buyers.
+     */
+    public MatchEngine(PriceIndex<Property> propertyPriceIndex, TagIndex<Property> propertyTagIndex,
+            PriceIndex<Buyer> buyerPriceIndex) {
+        this.propertyPriceIndex = requireNonNull(propertyPriceIndex);
+        this.propertyTagIndex = requireNonNull(propertyTagIndex);
+        this.buyerPriceIndex = requireNonNull(buyerPriceIndex);
+    }
+
+    /**
+     * Returns the properties matching {@code buyer}, in no particular order.
+     */
+    public List<Property> getMatchingProperties(Buyer buyer) {
+        requireNonNull(buyer);
+        PriceRange affordable = new PriceRange(Optional.empty(), Optional.of(buyer.getMaxPrice()));
+        TagSet buyerTags = buyer.getTags();
+        if (buyerTags.isEmpty()) {
+            return propertyPriceIndex.getInRange(affordable);
+        }
+
+        List<Property> tagged = propertyTagIndex.getWithAllTags(buyerTags);
+        List<Property> matches = new ArrayList<>();
+        if (tagged.size() <= propertyPriceIndex.countInRange(affordable)) {
+            for (Property property : tagged) {
+                if (affordable.contains(property.getPrice().value)) {
+                    matches.add(property);
+                }
+            }
+        } else {
+            for (Property property : propertyPriceIndex.getInRange(affordable)) {
+                if (property.getTags().containsAll(buyerTags)) {
+                    matches.add(property);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the buyers matching {@code property}, in ascending order of maximum price.
+     */
+    public List<Buyer> getMatchingBuyers(Property property) {
+        requireNonNull(property);
+        PriceRange affording = new PriceRange(Optional.of(property.getPrice()), Optional.empty());
+        TagSet propertyTags = property.getTags();
+        List<Buyer> matches = new ArrayList<>();
+        for (Buyer buyer : buyerPriceIndex.getInRange(affording)) {
+            if (propertyTags.containsAll(buyer.getTags())) {
+                matches.add(buyer);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the properties matching each of {@code buyers}, keyed by buyer in the order of {@code buyers}.
+     * Buyers are matched in parallel on the common fork-join pool.
+     * The indexes must not be modified while this method runs.
+     */
+    public Map<Buyer, List<Property>> getAllMatchingProperties(List<Buyer> buyers) {
+        return matchAll(buyers, this::getMatchingProperties);
+    }
+
+    /**
+     * Returns the buyers matching each of {@code properties}, keyed by property in the order of {@code properties}.
+     * Properties are matched in parallel on the common fork-join pool.
+     * The indexes must not be modified while this method runs.
+     */
+    public Map<Property, List<Buyer>> getAllMatchingBuyers(List<Property> properties) {
+        return matchAll(properties, this::getMatchingBuyers);
+    }
+
+    private static <S, T> Map<S, List<T>> matchAll(List<S> sources, Function<S, List<T>> matcher) {
+        requireNonNull(sources);
+        List<List<T>> matches = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            matches.add(null);
+        }
+        ForkJoinPool.commonPool().invoke(new MatchTask<>(sources, matcher, matches, 0, sources.size()));
+
+        Map<S, List<T>> matchesBySource = new LinkedHashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            matchesBySource.put(sources.get(i), matches.get(i));
+        }
+        return matchesBySource;
+    }
+
+    /**
+     * Matches the sources in {@code [start, end)}, splitting the range in half until it is small enough.
+     * Each task writes only to its own positions of {@code matches}.
+     */
+    private static class MatchTask<S, T> extends RecursiveAction {
+        private final List<S> sources;
+        private final Function<S, List<T>> matcher;
+        private final List<List<T>> matches;
+        private final int start;
+        private final int end;
+
+        MatchTask(List<S> sources, Function<S, List<T>> matcher, List<List<T>> matches, int start, int end) {
+            this.sources = sources;
+            this.matcher = matcher;
+            this.matches = matches;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    matches.set(i, matcher.apply(sources.get(i)));
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new MatchTask<>(sources, matcher, matches, start, middle),
+                    new MatchTask<>(sources, matcher, matches, middle, end));
+        }
+    }
+}
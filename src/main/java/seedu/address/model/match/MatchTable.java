@@ -0,0 +1,273 @@
+package seedu.address.model.match;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.ListableIndex;
+import seedu.address.model.property.Property;
+
+/**
+ * A live table of the number of matches of each buyer and property of an address book.
+ * The table is kept up to date through its {@link #getPropertyIndex() property} and
+ * {@link #getBuyerIndex() buyer} indexes, which update only the counts of the property or buyer that changed and of
+ * those it matches. Only the counts are kept, so the table takes memory in proportion to the number of buyers and
+ * properties rather than of matches; the matches themselves are found on demand by the {@link MatchEngine}.
+ * Listeners are notified whenever any match is added or removed, or only once for a whole batch of changes.
+ * Count listeners are instead given each property whose count changed, as it changes.
+ *
+ * @see MatchEngine
+ */
+public class MatchTable implements Observable {
+
+    /** The number of elements added together whose matches are found in parallel and then counted at once. */
+    private static final int BULK_MATCH_CHUNK_SIZE = 1024;
+
+    private final MatchEngine matchEngine;
+    private final Map<Property, Integer> buyerCountByProperty = new IdentityHashMap<>();
+    private final Map<Buyer, Integer> propertyCountByBuyer = new IdentityHashMap<>();
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    private final List<Consumer<Property>> countListeners = new ArrayList<>();
+    private boolean isBatching;
+    private boolean isInvalidatedInBatch;
+    private boolean isSuspended;
+
+    private final ListableIndex<Property> propertyIndex = new ListableIndex<>() {
+        @Override
+        public void add(Property property) {
+            if (isSuspended) {
+                return;
+            }
+            addPropertyMatches(property, matchEngine.getMatchingBuyers(property));
+            fireInvalidated();
+        }
+
+        @Override
+        public void addAll(List<Property> properties) {
+            if (isSuspended) {
+                return;
+            }
+            addAllPropertyMatches(properties);
+            fireInvalidated();
+        }
+
+        @Override
+        public void remove(Property property) {
+            if (isSuspended) {
+                return;
+            }
+            // Matching only depends on the fields of the property and buyers, so the buyers it matches now are the
+            // ones that counted it.
+            if (buyerCountByProperty.remove(property) != null) {
+                matchEngine.getMatchingBuyers(property).forEach(buyer ->
+                        propertyCountByBuyer.merge(buyer, -1, Integer::sum));
+            }
+            fireInvalidated();
+        }
+
+        @Override
+        public void clear() {
+            if (isSuspended) {
+                return;
+            }
+            buyerCountByProperty.clear();
+            propertyCountByBuyer.replaceAll((buyer, count) -> 0);
+            fireInvalidated();
+        }
+    };
+
+    private final ListableIndex<Buyer> buyerIndex = new ListableIndex<>() {
+        @Override
+        public void add(Buyer buyer) {
+            if (isSuspended) {
+                return;
+            }
+            addBuyerMatches(buyer, matchEngine.getMatchingProperties(buyer));
+            fireInvalidated();
+        }
+
+        @Override
+        public void addAll(List<Buyer> buyers) {
+            if (isSuspended) {
+                return;
+            }
+            for (int start = 0; start < buyers.size(); start += BULK_MATCH_CHUNK_SIZE) {
+                List<Buyer> chunk = buyers.subList(start, Math.min(start + BULK_MATCH_CHUNK_SIZE, buyers.size()));
+                matchEngine.getAllMatchingProperties(chunk).forEach(MatchTable.this::addBuyerMatches);
+            }
+            fireInvalidated();
+        }
+
+        @Override
+        public void remove(Buyer buyer) {
+            if (isSuspended) {
+                return;
+            }
+            if (propertyCountByBuyer.remove(buyer) != null) {
+                matchEngine.getMatchingProperties(buyer).forEach(property -> addToBuyerCount(property, -1));
+            }
+            fireInvalidated();
+        }
+
+        @Override
+        public void clear() {
+            if (isSuspended) {
+                return;
+            }
+            List<Property> matchedProperties = new ArrayList<>();
+            buyerCountByProperty.forEach((property, count) -> {
+                if (count != 0) {
+                    matchedProperties.add(property);
+                }
+            });
+            propertyCountByBuyer.clear();
+            buyerCountByProperty.replaceAll((property, count) -> 0);
+            matchedProperties.forEach(MatchTable.this::fireCountChanged);
+            fireInvalidated();
+        }
+    };
+
+    /**
+     * Creates a match table that finds the matches of new properties and buyers with {@code matchEngine}.
+     */
+    public MatchTable(MatchEngine matchEngine) {
+        this.matchEngine = requireNonNull(matchEngine);
+    }
+
+    /**
+     * Returns the index to register with the property list.
+     * It must be registered after the property indexes used by the match engine.
+     */
+    public ListableIndex<Property> getPropertyIndex() {
+        return propertyIndex;
+    }
+
+    /**
+     * Returns the index to register with the buyer list.
+     * It must be registered after the buyer indexes used by the match engine.
+     */
+    public ListableIndex<Buyer> getBuyerIndex() {
+        return buyerIndex;
+    }
+
+    /**
+     * Returns the number of buyers matching {@code property}, or 0 if it is not in the table.
+     */
+    public int getMatchingBuyerCount(Property property) {
+        requireNonNull(property);
+        return buyerCountByProperty.getOrDefault(property, 0);
+    }
+
+    /**
+     * Returns the number of properties matching {@code buyer}, or 0 if it is not in the table.
+     */
+    public int getMatchingPropertyCount(Buyer buyer) {
+        requireNonNull(buyer);
+        return propertyCountByBuyer.getOrDefault(buyer, 0);
+    }
+
+    /**
+     * Adds a listener that is given each property already in the table whose number of matching buyers changed,
+     * as soon as it changes, even during a batch. Properties added to or removed from the table are not given to it.
+     */
+    public void addCountListener(Consumer<Property> listener) {
+        countListeners.add(requireNonNull(listener));
+    }
+
+    /**
+     * Stops updating the table until {@link #resume(List, List)} is called, so that both lists of an address book
+     * can be replaced with the matches counted once, rather than once after each list is replaced.
+     */
+    public void suspend() {
+        isSuspended = true;
+    }
+
+    /**
+     * Recounts every match between {@code properties} and {@code buyers}, which must be the current elements of the
+     * address book, and then keeps the table up to date again.
+     */
+    public void resume(List<Property> properties, List<Buyer> buyers) {
+        assert isSuspended;
+        isSuspended = false;
+        buyerCountByProperty.clear();
+        propertyCountByBuyer.clear();
+        buyers.forEach(buyer -> propertyCountByBuyer.put(buyer, 0));
+        addAllPropertyMatches(properties);
+        properties.forEach(this::fireCountChanged);
+        fireInvalidated();
+    }
+
+    /**
+     * Starts a batch of changes, during which listeners are not notified.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Ends the current batch of changes, notifying listeners once if any match changed during it.
+     */
+    public void endBatch() {
+        isBatching = false;
+        if (isInvalidatedInBatch) {
+            isInvalidatedInBatch = false;
+            fireInvalidated();
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.add(requireNonNull(listener));
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void addAllPropertyMatches(List<Property> properties) {
+        for (int start = 0; start < properties.size(); start += BULK_MATCH_CHUNK_SIZE) {
+            List<Property> chunk = properties.subList(start,
+                    Math.min(start + BULK_MATCH_CHUNK_SIZE, properties.size()));
+            matchEngine.getAllMatchingBuyers(chunk).forEach(this::addPropertyMatches);
+        }
+    }
+
+    private void addPropertyMatches(Property property, List<Buyer> buyers) {
+        buyerCountByProperty.put(property, buyers.size());
+        buyers.forEach(buyer -> propertyCountByBuyer.merge(buyer, 1, Integer::sum));
+    }
+
+    private void addBuyerMatches(Buyer buyer, List<Property> properties) {
+        propertyCountByBuyer.put(buyer, properties.size());
+        properties.forEach(property -> addToBuyerCount(property, 1));
+    }
+
+    private void addToBuyerCount(Property property, int delta) {
+        buyerCountByProperty.merge(property, delta, Integer::sum);
+        fireCountChanged(property);
+    }
+
+    private void fireCountChanged(Property property) {
+        for (Consumer<Property> listener : countListeners) {
+            listener.accept(property);
+        }
+    }
+
+    private void fireInvalidated() {
+        if (isBatching) {
+            isInvalidatedInBatch = true;
+            return;
+        }
+        for (InvalidationListener listener : new ArrayList<>(listeners)) {
+            listener.invalidated(this);
+        }
+    }
+}
@@ -2,9 +2,7 @@ package seedu.address.model.property;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -14,11 +12,12 @@ import seedu.address.model.field.Person;
 import seedu.address.model.field.Phone;
 import seedu.address.model.field.Price;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 public class Buyer extends Person implements Listable, Taggable {
 
     private final Price maxPrice;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -27,7 +26,7 @@ public class Buyer extends Person implements Listable, Taggable {
         super(person.getName(), person.getPhone(), person.getEmail());
         requireAllNonNull(maxPrice, tags);
         this.maxPrice = maxPrice;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     /**
@@ -37,7 +36,7 @@ public class Buyer extends Person implements Listable, Taggable {
         super(name, phone, email);
         requireAllNonNull(maxPrice, tags);
         this.maxPrice = maxPrice;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Price getMaxPrice() {
@@ -45,8 +44,8 @@ public class Buyer extends Person implements Listable, Taggable {
     }
 
     @Override
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -74,6 +73,14 @@ public class Buyer extends Person implements Listable, Taggable {
         return isSameBuyer((Buyer) item);
     }
 
+    /**
+     * Returns the name of this buyer, which identifies it among weakly equal buyers.
+     */
+    @Override
+    public Object getListableKey() {
+        return getName();
+    }
+
     /**
      * Returns true if both buyers have the same identity, data fields, and
      * maximum price. This defines a stronger notion of equality between
@@ -0,0 +1,263 @@
+package seedu.address.model.property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list whose modifications can be collected into a batch, so that its observers are notified of
+ * all of them at once, as a single change, when the batch ends.
+ * The elements are held in a {@code PersistentList}, so that the version of the list at any moment can be kept
+ * without copying it. This is how a batch remembers the elements it replaced, how a cancelled batch is undone in
+ * constant time, and how {@link #snapshot()} takes an immutable view of the list in constant time.
+ * Every modification is also recorded, by position, in a log that links the snapshots taken, so that the
+ * modifications made between two snapshots can be found in time linear in their number.
+ * The change reported for a batch replaces the elements from the earliest position the batch modified to the end of
+ * the list. It is found without comparing elements, so a batch costs time linear in the number of elements it moves.
+ * Outside of a batch, each modification is reported on its own, as by {@code FXCollections#observableArrayList()}.
+ */
+class CoalescingObservableList<E> extends ObservableListBase<E> {
+
+    private static final int UNMODIFIED = -1;
+
+    private PersistentList<E> elements = PersistentList.empty();
+    private ListModification<E> lastModification = ListModification.start();
+    private long modificationCount;
+    private boolean isBatching;
+
+    /** The version of the list when the current batch began. */
+    private PersistentList<E> batchStart;
+    private ListModification<E> batchStartModification;
+
+    /** The earliest position modified in the current batch, or {@code UNMODIFIED}. */
+    private int modifiedFrom = UNMODIFIED;
+
+    /**
+     * Starts collecting modifications into a batch. Batches cannot be nested.
+     */
+    void beginBatch() {
+        assert !isBatching : "Batches cannot be nested";
+        isBatching = true;
+        batchStart = elements;
+        batchStartModification = lastModification;
+    }
+
+    /**
+     * Ends the current batch, and notifies observers of its modifications as a single change.
+     */
+    void endBatch() {
+        assert isBatching;
+        isBatching = false;
+        int from = modifiedFrom;
+        PersistentList<E> start = batchStart;
+        modifiedFrom = UNMODIFIED;
+        batchStart = null;
+        batchStartModification = null;
+        if (from == UNMODIFIED || (from == size() && from == start.size())) {
+            return;
+        }
+
+        List<E> replaced = new ArrayList<>(start.size() - from);
+        start.iterator(from).forEachRemaining(replaced::add);
+        beginChange();
+        nextReplace(from, size(), replaced);
+        endChange();
+    }
+
+    /**
+     * Ends the current batch by undoing its modifications. Observers are not notified, as they were never told of
+     * the modifications.
+     */
+    void cancelBatch() {
+        assert isBatching;
+        isBatching = false;
+        elements = batchStart;
+        lastModification = batchStartModification;
+        modifiedFrom = UNMODIFIED;
+        batchStart = null;
+        batchStartModification = null;
+    }
+
+    /**
+     * Returns an immutable view of the current elements, which is unaffected by later modifications of this list.
+     */
+    ObservableList<E> snapshot() {
+        return new Snapshot<>(elements, lastModification);
+    }
+
+    /**
+     * Returns the modifications that turned the snapshot {@code earlier} into the snapshot {@code later}, in order,
+     * or null if they are not snapshots of the same list taken in that order, or if the list was replaced or
+     * reordered in between.
+     */
+    static <E> List<ListModification<E>> getModificationsBetween(List<E> earlier, List<E> later) {
+        if (!(earlier instanceof Snapshot) || !(later instanceof Snapshot)) {
+            return null;
+        }
+        return ListModification.between(((Snapshot<E>) earlier).lastModification,
+                ((Snapshot<E>) later).lastModification);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        markModified(index);
+        elements = elements.add(index, element);
+        record(ListModification.Kind.ADD, index, List.of(element));
+        if (!isBatching) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        int from = elements.size();
+        markModified(from);
+        elements = elements.addAll(toAdd);
+        if (from != elements.size()) {
+            record(ListModification.Kind.ADD, from, List.copyOf(toAdd));
+        }
+        if (!isBatching && from != elements.size()) {
+            beginChange();
+            nextAdd(from, elements.size());
+            endChange();
+        }
+        return !toAdd.isEmpty();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        markModified(index);
+        E replaced = elements.get(index);
+        elements = elements.set(index, element);
+        record(ListModification.Kind.SET, index, List.of(element));
+        if (!isBatching) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+        return replaced;
+    }
+
+    @Override
+    public E remove(int index) {
+        markModified(index);
+        E removed = elements.get(index);
+        elements = elements.remove(index);
+        record(ListModification.Kind.REMOVE, index, List.of());
+        if (!isBatching) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        markModified(0);
+        List<E> replaced = isBatching ? null : new ArrayList<>(this);
+        elements = PersistentList.of(replacement);
+        record(ListModification.Kind.REPLACE, 0, List.of());
+        if (!isBatching) {
+            beginChange();
+            nextReplace(0, elements.size(), replaced);
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        markModified(0);
+        List<E> unsorted = new ArrayList<>(this);
+        record(ListModification.Kind.REPLACE, 0, List.of());
+        if (isBatching) {
+            unsorted.sort(comparator);
+            elements = PersistentList.of(unsorted);
+            return;
+        }
+
+        // Sort positions rather than elements, so that observers can be told where each element moved to.
+        Integer[] order = new Integer[unsorted.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (i, j) -> comparator.compare(unsorted.get(i), unsorted.get(j)));
+
+        int[] permutation = new int[order.length];
+        List<E> sorted = new ArrayList<>(order.length);
+        for (int newPosition = 0; newPosition < order.length; newPosition++) {
+            permutation[order[newPosition]] = newPosition;
+            sorted.add(unsorted.get(order[newPosition]));
+        }
+        elements = PersistentList.of(sorted);
+
+        beginChange();
+        nextPermutation(0, elements.size(), permutation);
+        endChange();
+    }
+
+    /**
+     * Records that the current batch, if any, is about to modify the list at {@code index} or after.
+     * Positions before the earliest one modified so far still hold the elements they held when the batch began.
+     */
+    private void markModified(int index) {
+        if (isBatching && (modifiedFrom == UNMODIFIED || index < modifiedFrom)) {
+            modifiedFrom = index;
+        }
+    }
+
+    private void record(ListModification.Kind kind, int index, List<E> modified) {
+        lastModification = lastModification.append(kind, index, modified, ++modificationCount);
+    }
+
+    /**
+     * An unchanging version of the elements of a {@code CoalescingObservableList}. As it never changes, its
+     * observers are never notified, and it cannot be modified.
+     */
+    private static class Snapshot<E> extends ObservableListBase<E> {
+        private final PersistentList<E> elements;
+        private final ListModification<E> lastModification;
+
+        Snapshot(PersistentList<E> elements, ListModification<E> lastModification) {
+            this.elements = elements;
+            this.lastModification = lastModification;
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.property;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single modification of a {@code UniqueList}, by position, as recorded in the log of modifications that links
+ * the snapshots of the list.
+ * Each modification links to the one made after it, so a snapshot only keeps the modifications made since it was
+ * taken from being reclaimed.
+ *
+ * @see UniqueList#getModificationsBetween(List, List)
+ */
+public final class ListModification<E> {
+
+    /**
+     * The kinds of modification. A {@code REPLACE} replaced or reordered the whole list, and is not recorded with
+     * its elements, so it cannot be replayed by position.
+     */
+    public enum Kind { ADD, SET, REMOVE, REPLACE }
+
+    private final Kind kind;
+    private final int index;
+    private final List<E> elements;
+    /** Increases with every modification of a list, including those undone by cancelling a batch. */
+    private final long version;
+
+    /** The modification made after this one, or null if there has been none yet. */
+    private volatile ListModification<E> next;
+
+    private ListModification(Kind kind, int index, List<E> elements, long version) {
+        this.kind = kind;
+        this.index = index;
+        this.elements = elements;
+        this.version = version;
+    }
+
+    /**
+     * Returns the first entry of a new log.
+     */
+    static <E> ListModification<E> start() {
+        return new ListModification<>(Kind.REPLACE, 0, List.of(), 0);
+    }
+
+    /**
+     * Records a modification made after this one and returns it.
+     * If a modification made after this one was undone, the new one takes its place in the log.
+     */
+    ListModification<E> append(Kind kind, int index, List<E> elements, long version) {
+        assert version > this.version;
+        ListModification<E> appended = new ListModification<>(kind, index, elements, version);
+        next = appended;
+        return appended;
+    }
+
+    /**
+     * Returns the modifications made after {@code earlier} up to and including {@code later}, or null if
+     * {@code later} does not follow {@code earlier} in the log, or if any of those modifications is a
+     * {@code REPLACE}.
+     */
+    static <E> List<ListModification<E>> between(ListModification<E> earlier, ListModification<E> later) {
+        List<ListModification<E>> modifications = new ArrayList<>();
+        ListModification<E> modification = earlier;
+        while (modification != later) {
+            modification = modification.next;
+            // A later version than that of later means the log has moved on from a branch that was undone.
+            if (modification == null || modification.version > later.version || modification.kind == Kind.REPLACE) {
+                return null;
+            }
+            modifications.add(modification);
+        }
+        return modifications;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position of the first element added, set or removed.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the elements added at consecutive positions from the index, or the single element set at the index.
+     * Empty for a removal.
+     */
+    public List<E> getElements() {
+        return elements;
+    }
+}
@@ -7,4 +7,11 @@ public interface Listable {
      */
     boolean isSameListable(Listable item);
 
+    /**
+     * For UniqueList to index items by identity.
+     * Two items of the same type must return equal keys if and only if they are weakly equal,
+     * i.e. {@code a.isSameListable(b) == a.getListableKey().equals(b.getListableKey())}.
+     */
+    Object getListableKey();
+
 }
@@ -0,0 +1,34 @@
+package seedu.address.model.property;
+
+import java.util.List;
+
+/**
+ * A secondary index over the elements of a {@code UniqueList}.
+ * The list notifies its registered indexes of every element it gains or loses, so that they stay in sync with it.
+ *
+ * @see UniqueList#addIndex(ListableIndex)
+ */
+public interface ListableIndex<Item extends Listable> {
+
+    /**
+     * Indexes an element that was added to the list.
+     */
+    void add(Item item);
+
+    /**
+     * Indexes elements that were added to the list together, such as when the list is replaced.
+     */
+    default void addAll(List<Item> items) {
+        items.forEach(this::add);
+    }
+
+    /**
+     * Removes an element that was removed from the list from the index.
+     */
+    void remove(Item item);
+
+    /**
+     * Removes all elements from the index.
+     */
+    void clear();
+}
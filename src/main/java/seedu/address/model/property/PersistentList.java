@@ -0,0 +1,290 @@
+package seedu.address.model.property;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares its structure with the lists it is derived from.
+ * Every modification returns a new list in O(log n) time and leaves the original unchanged, so that keeping an
+ * earlier version of a list costs nothing. The list is stored as a balanced binary tree ordered by position, whose
+ * nodes record the size of their subtree; a modification only copies the nodes on the path to the position it
+ * modifies.
+ */
+final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in iteration order, in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        return new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} appended.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}, shifting later elements along.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code elements} appended, in O(k + log n) time for k elements.
+     */
+    public PersistentList<E> addAll(Collection<? extends E> elements) {
+        PersistentList<E> appended = of(elements);
+        if (appended.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return appended;
+        }
+        return new PersistentList<>(join(root, appended.get(0), remove(appended.root, 0)));
+    }
+
+    /**
+     * Returns this list without the element at {@code index}, shifting later elements back.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator over the elements from {@code from} onwards, which takes O(log n) time to create.
+     */
+    public Iterator<E> iterator(int from) {
+        checkIndex(from, size() + 1);
+        return new InOrderIterator<>(root, from);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + bound);
+        }
+    }
+
+    //// tree operations, each of which returns a new balanced tree
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        return balance(node.left, first(node.right), remove(node.right, 0));
+    }
+
+    /**
+     * Returns the tree of the elements of {@code left}, then {@code pivot}, then the elements of {@code right}, in
+     * time proportional to the difference in their heights.
+     */
+    private static <E> Node<E> join(Node<E> left, E pivot, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            return balance(left.left, left.value, join(left.right, pivot, right));
+        }
+        if (height(right) > height(left) + 1) {
+            return balance(join(left, pivot, right.left), right.value, right.right);
+        }
+        return new Node<>(left, pivot, right);
+    }
+
+    /**
+     * Returns a tree of {@code left}, {@code value} and {@code right}, rotated if their heights differ by two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.value, middle.left), middle.value,
+                    new Node<>(middle.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(new Node<>(left, value, middle.left), middle.value,
+                    new Node<>(middle.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over a tree in order, keeping the nodes still to be visited after their left subtree on a stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> pending = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root, int from) {
+            Node<E> node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (from <= leftSize) {
+                    pending.push(node);
+                    node = from == leftSize ? null : node.left;
+                } else {
+                    from -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = pending.pop();
+            for (Node<E> next = node.right; next != null; next = next.left) {
+                pending.push(next);
+            }
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.field.PriceRange;
+
+/**
+ * An index of elements sorted by a price, kept as parallel arrays of primitive {@code long} prices and elements.
+ * The elements within a price range are contiguous, so they are found with two binary searches.
+ * The index holds the instances of the elements it was given, so lookups and removals compare elements by identity.
+ */
+public class PriceIndex<Item extends Listable> implements ListableIndex<Item> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ToLongFunction<Item> priceOf;
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+    private long version = 0;
+
+    /**
+     * Creates an index that sorts elements by the price given by {@code priceOf}.
+     */
+    public PriceIndex(ToLongFunction<Item> priceOf) {
+        this.priceOf = requireNonNull(priceOf);
+    }
+
+    @Override
+    public void add(Item item) {
+        requireNonNull(item);
+        long price = priceOf.applyAsLong(item);
+        int position = upperBound(price);
+        if (size == prices.length) {
+            prices = Arrays.copyOf(prices, size * 2);
+            items = Arrays.copyOf(items, size * 2);
+        }
+        System.arraycopy(prices, position, prices, position + 1, size - position);
+        System.arraycopy(items, position, items, position + 1, size - position);
+        prices[position] = price;
+        items[position] = item;
+        size++;
+        version++;
+    }
+
+    /**
+     * Indexes {@code toAdd} in O((n + k) log k) time, rather than shifting the indexed elements once per element,
+     * by sorting them on their own and then merging them with the indexed elements from the back.
+     * Elements with the same price are kept in the order they would have been by adding them one at a time.
+     */
+    @Override
+    public void addAll(List<Item> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Item> added = new ArrayList<>(toAdd);
+        added.sort(Comparator.comparingLong(priceOf));
+        long[] addedPrices = new long[added.size()];
+        for (int i = 0; i < addedPrices.length; i++) {
+            addedPrices[i] = priceOf.applyAsLong(added.get(i));
+        }
+
+        int newSize = size + added.size();
+        if (newSize > prices.length) {
+            int capacity = Math.max(newSize, prices.length * 2);
+            prices = Arrays.copyOf(prices, capacity);
+            items = Arrays.copyOf(items, capacity);
+        }
+        int position = size - 1;
+        for (int addedPosition = added.size() - 1, out = newSize - 1; addedPosition >= 0; out--) {
+            if (position >= 0 && prices[position] > addedPrices[addedPosition]) {
+                prices[out] = prices[position];
+                items[out] = items[position--];
+            } else {
+                prices[out] = addedPrices[addedPosition];
+                items[out] = added.get(addedPosition--);
+            }
+        }
+        size = newSize;
+        version++;
+    }
+
+    @Override
+    public void remove(Item item) {
+        requireNonNull(item);
+        long price = priceOf.applyAsLong(item);
+        for (int position = lowerBound(price); position < size && prices[position] == price; position++) {
+            if (items[position] == item) {
+                System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+                System.arraycopy(items, position + 1, items, position, size - position - 1);
+                items[--size] = null;
+                version++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        version++;
+    }
+
+    /**
+     * Returns the number of indexed elements whose price lies within {@code range}.
+     */
+    public int countInRange(PriceRange range) {
+        requireNonNull(range);
+        return upperBound(range.getMax()) - lowerBound(range.getMin());
+    }
+
+    /**
+     * Returns the indexed elements whose price lies within {@code range}, in ascending order of price.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Item> getInRange(PriceRange range) {
+        requireNonNull(range);
+        int end = upperBound(range.getMax());
+        List<Item> inRange = new ArrayList<>();
+        for (int position = lowerBound(range.getMin()); position < end; position++) {
+            inRange.add((Item) items[position]);
+        }
+        return inRange;
+    }
+
+    /**
+     * Returns a predicate that tests, using this index, whether an element's price lies within {@code range}.
+     * The elements in range are found with {@link #getInRange(PriceRange)} once and reused until the index next
+     * changes, so testing every element of a list costs two binary searches and one lookup per element.
+     */
+    public Predicate<Item> inRange(PriceRange range) {
+        requireNonNull(range);
+        if (range.isUnbounded()) {
+            return item -> true;
+        }
+
+        return new Predicate<>() {
+            private long inRangeVersion = -1;
+            private Set<Item> inRange;
+
+            @Override
+            public boolean test(Item item) {
+                if (inRangeVersion != version) {
+                    inRange = Collections.newSetFromMap(new IdentityHashMap<>());
+                    inRange.addAll(getInRange(range));
+                    inRangeVersion = version;
+                }
+                return inRange.contains(item);
+            }
+        };
+    }
+
+    /**
+     * Returns the first position whose price is at least {@code price}.
+     */
+    private int lowerBound(long price) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prices[middle] < price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose price exceeds {@code price}.
+     */
+    private int upperBound(long price) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prices[middle] <= price) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
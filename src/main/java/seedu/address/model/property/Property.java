@@ -2,9 +2,7 @@ package seedu.address.model.property;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -12,6 +10,7 @@ import seedu.address.model.field.Name;
 import seedu.address.model.field.Person;
 import seedu.address.model.field.Price;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Property in the address book.
@@ -23,7 +22,7 @@ public class Property implements Listable, Taggable {
     private final Address address;
     private final Person seller;
     private final Price price;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -34,7 +33,7 @@ public class Property implements Listable, Taggable {
         this.address = address;
         this.seller = seller;
         this.price = min;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -50,8 +49,8 @@ public class Property implements Listable, Taggable {
     }
 
     @Override
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     public Price getPrice() {
@@ -70,6 +69,14 @@ public class Property implements Listable, Taggable {
         return isSameProperty((Property) item);
     }
 
+    /**
+     * Returns the name of this property, which identifies it among weakly equal properties.
+     */
+    @Override
+    public Object getListableKey() {
+        return name;
+    }
+
     /**
      * Returns true if both properties have the same name.
      * This defines a weaker notion of equality between two properties.
@@ -0,0 +1,110 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the case-folded words of property names to the properties whose names contain them.
+ * Word matching follows {@code StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class PropertyNameIndex implements ListableIndex<Property> {
+
+    private final Map<String, Set<Property>> postings = new HashMap<>();
+    private long version = 0;
+
+    @Override
+    public void add(Property property) {
+        requireNonNull(property);
+        for (String word : getWords(property)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(property);
+        }
+        version++;
+    }
+
+    @Override
+    public void remove(Property property) {
+        requireNonNull(property);
+        for (String word : getWords(property)) {
+            Set<Property> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(property);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        version++;
+    }
+
+    @Override
+    public void clear() {
+        postings.clear();
+        version++;
+    }
+
+    /**
+     * Returns the properties whose names contain {@code word} as a full word, ignoring case.
+     */
+    public Set<Property> getPropertiesWithWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(postings.getOrDefault(foldCase(word.trim()), Collections.emptySet()));
+    }
+
+    /**
+     * Returns a predicate that tests, using this index, whether a property's name contains any of the given
+     * {@code keywords} as a full word, ignoring case.
+     * The candidates are the union of the properties with each keyword, which is looked up once and reused until the
+     * index next changes, so testing every property of a list costs one lookup per property. The predicate stays
+     * correct for properties added or edited after it was created.
+     */
+    public Predicate<Property> containsAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> words = new LinkedHashSet<>();
+        keywords.forEach(keyword -> words.add(keyword.trim()));
+
+        return new Predicate<>() {
+            private long candidatesVersion = -1;
+            private Set<Property> candidates;
+
+            @Override
+            public boolean test(Property property) {
+                if (candidatesVersion != version) {
+                    candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                    words.forEach(word -> candidates.addAll(getPropertiesWithWord(word)));
+                    candidatesVersion = version;
+                }
+                return candidates.contains(property);
+            }
+        };
+    }
+
+    private static Set<String> getWords(Property property) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : property.getName().fullName.split("\\s+")) {
+            words.add(foldCase(word));
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} folded such that two words are equal after folding if and only if
+     * they are equal according to {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String foldCase(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.property;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A bitmap index from tags to the elements carrying them.
+ * Every indexed element occupies a slot, and each tag maps to a bitmap of the slots of the elements carrying it,
+ * so that finding the elements carrying several tags is a bitwise AND of their bitmaps.
+ * Slots freed by removed elements are reused, which keeps the bitmaps dense.
+ */
+public class TagIndex<Item extends Listable & Taggable> implements ListableIndex<Item> {
+
+    private final Map<Item, Integer> slots = new IdentityHashMap<>();
+    private final List<Item> itemsBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    private final List<BitSet> bitmapsByTagId = new ArrayList<>();
+    private int slotCount = 0;
+    private long version = 0;
+
+    @Override
+    public void add(Item item) {
+        requireNonNull(item);
+        int slot = freeSlots.isEmpty() ? slotCount++ : takeFreeSlot();
+        slots.put(item, slot);
+        if (slot == itemsBySlot.size()) {
+            itemsBySlot.add(item);
+        } else {
+            itemsBySlot.set(slot, item);
+        }
+        item.getTags().ids().forEach(tagId -> getOrCreateBitmap(tagId).set(slot));
+        version++;
+    }
+
+    @Override
+    public void remove(Item item) {
+        requireNonNull(item);
+        Integer slot = slots.remove(item);
+        if (slot == null) {
+            return;
+        }
+        item.getTags().ids().forEach(tagId -> bitmapsByTagId.get(tagId).clear(slot));
+        itemsBySlot.set(slot, null);
+        freeSlots.set(slot);
+        version++;
+    }
+
+    @Override
+    public void clear() {
+        slots.clear();
+        itemsBySlot.clear();
+        freeSlots.clear();
+        bitmapsByTagId.clear();
+        slotCount = 0;
+        version++;
+    }
+
+    /**
+     * Returns the number of indexed elements carrying every tag in {@code tags}.
+     */
+    public int countWithAllTags(TagSet tags) {
+        requireNonNull(tags);
+        return tags.isEmpty() ? slots.size() : getSlotsWithAllTags(tags).cardinality();
+    }
+
+    /**
+     * Returns the indexed elements carrying every tag in {@code tags}, which must not be empty.
+     * The elements are found by intersecting the bitmaps of {@code tags}, and are returned in no particular order.
+     */
+    public List<Item> getWithAllTags(TagSet tags) {
+        requireNonNull(tags);
+        assert !tags.isEmpty();
+        BitSet matches = getSlotsWithAllTags(tags);
+        List<Item> items = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            items.add(itemsBySlot.get(slot));
+        }
+        return items;
+    }
+
+    /**
+     * Returns a predicate that tests, using this index, whether an element carries every tag in {@code tags}.
+     * The bitmaps of {@code tags} are intersected once and the result is reused until the index next changes,
+     * so testing every element of a list costs one AND over the bitmaps and one lookup per element.
+     */
+    public Predicate<Item> containsAllTags(TagSet tags) {
+        requireNonNull(tags);
+        if (tags.isEmpty()) {
+            return item -> true;
+        }
+
+        return new Predicate<>() {
+            private long matchesVersion = -1;
+            private BitSet matches;
+
+            @Override
+            public boolean test(Item item) {
+                if (matchesVersion != version) {
+                    matches = getSlotsWithAllTags(tags);
+                    matchesVersion = version;
+                }
+                Integer slot = slots.get(item);
+                return slot != null && matches.get(slot);
+            }
+        };
+    }
+
+    private BitSet getSlotsWithAllTags(TagSet tags) {
+        BitSet result = null;
+        PrimitiveIterator.OfInt tagIds = tags.ids().iterator();
+        while (tagIds.hasNext()) {
+            int tagId = tagIds.nextInt();
+            if (tagId >= bitmapsByTagId.size() || bitmapsByTagId.get(tagId) == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) bitmapsByTagId.get(tagId).clone();
+            } else {
+                result.and(bitmapsByTagId.get(tagId));
+            }
+        }
+        return result;
+    }
+
+    private BitSet getOrCreateBitmap(int tagId) {
+        while (bitmapsByTagId.size() <= tagId) {
+            bitmapsByTagId.add(null);
+        }
+        if (bitmapsByTagId.get(tagId) == null) {
+            bitmapsByTagId.set(tagId, new BitSet());
+        }
+        return bitmapsByTagId.get(tagId);
+    }
+
+    private int takeFreeSlot() {
+        int slot = freeSlots.nextSetBit(0);
+        freeSlots.clear(slot);
+        return slot;
+    }
+}
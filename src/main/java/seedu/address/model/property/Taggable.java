@@ -1,8 +1,6 @@
 package seedu.address.model.property;
 
-import java.util.Set;
-
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 public interface Taggable {
 
@@ -10,5 +8,5 @@ public interface Taggable {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    Set<Tag> getTags();
+    TagSet getTags();
 }
@@ -3,9 +3,13 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,22 +24,47 @@ import seedu.address.model.property.exceptions.ListableNotFoundException;
  * UniqueListableList. However, the removal of an element uses Listable#equals(Object) so
  * as to ensure that the element with exactly the same fields will be removed.
  *
+ * Elements are additionally indexed by {@code Listable#getListableKey()}, so that identity lookups
+ * do not need to scan the whole list. Further secondary indexes can be registered with
+ * {@link #addIndex(ListableIndex)}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Listable#isSameListable(Listable)
  */
 public class UniqueList<Item extends Listable> implements Iterable<Item> {
 
-    private final ObservableList<Item> internalList = FXCollections.observableArrayList();
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
+    private final CoalescingObservableList<Item> internalList = new CoalescingObservableList<>();
     private final ObservableList<Item> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Maps the identity key of every element to its position in {@code internalList}.
+     * The keys are always accurate, but only the positions before {@code stalePositionsFrom} are.
+     */
+    private final Map<Object, Integer> keyIndex = new HashMap<>();
+    private int stalePositionsFrom = NO_STALE_POSITIONS;
+
+    private final List<ListableIndex<Item>> indexes = new ArrayList<>();
+
+    /**
+     * Registers a secondary {@code index} that is kept in sync with the elements of this list.
+     * The index is populated with the current elements, and is updated before observers of this list are notified.
+     */
+    public void addIndex(ListableIndex<Item> index) {
+        requireNonNull(index);
+        internalList.forEach(index::add);
+        indexes.add(index);
+    }
+
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Item toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListable);
+        return keyIndex.containsKey(toCheck.getListableKey());
     }
 
     /**
@@ -47,9 +76,49 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
         if (contains(toAdd)) {
             throw new DuplicateListableException();
         }
+        keyIndex.put(toAdd.getListableKey(), internalList.size());
+        indexes.forEach(index -> index.add(toAdd));
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts an element into the list at {@code position}, shifting the elements after it along.
+     * The element must not already exist in the list.
+     */
+    public void add(int position, Item toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateListableException();
+        }
+        keyIndex.put(toAdd.getListableKey(), position);
+        indexes.forEach(index -> index.add(toAdd));
+        internalList.add(position, toAdd);
+        // Inserting an element shifts the positions of the elements from the one it displaces onwards.
+        if (position != internalList.size() - 1) {
+            stalePositionsFrom = Math.min(stalePositionsFrom, position);
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, notifying observers of the list only once.
+     * None of the elements may already exist in the list, or have the same identity as each other.
+     */
+    public void addAll(List<Item> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Object, Integer> addedIndex = new HashMap<>();
+        int position = internalList.size();
+        for (Item item : toAdd) {
+            Object key = item.getListableKey();
+            if (keyIndex.containsKey(key) || addedIndex.put(key, position++) != null) {
+                throw new DuplicateListableException();
+            }
+        }
+
+        keyIndex.putAll(addedIndex);
+        indexes.forEach(index -> index.addAll(toAdd));
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the element {@code target} in the list with {@code editedListable}.
      * {@code target} must exist in the list.
@@ -58,7 +127,7 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
     public void setListable(Item target, Item editedListable) {
         requireAllNonNull(target, editedListable);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ListableNotFoundException();
         }
@@ -67,6 +136,14 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
             throw new DuplicateListableException();
         }
 
+        // The secondary indexes hold the stored instance, which may be equal to, but not the same as, target.
+        Item stored = internalList.get(index);
+        keyIndex.remove(stored.getListableKey());
+        keyIndex.put(editedListable.getListableKey(), index);
+        indexes.forEach(secondaryIndex -> {
+            secondaryIndex.remove(stored);
+            secondaryIndex.add(editedListable);
+        });
         internalList.set(index, editedListable);
     }
 
@@ -76,13 +153,27 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
      */
     public void remove(Item toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ListableNotFoundException();
         }
+
+        Item stored = internalList.get(index);
+        keyIndex.remove(stored.getListableKey());
+        indexes.forEach(secondaryIndex -> secondaryIndex.remove(stored));
+        internalList.remove(index);
+        // Removing an element only shifts the positions of the elements after it.
+        if (index != internalList.size()) {
+            stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        }
     }
 
-    public void setListables(UniqueList replacement) {
+    public void setListables(UniqueList<Item> replacement) {
         requireNonNull(replacement);
+        keyIndex.clear();
+        keyIndex.putAll(replacement.keyIndex);
+        stalePositionsFrom = replacement.stalePositionsFrom;
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,15 +183,78 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
      */
     public void setListables(List<Item> listables) {
         requireAllNonNull(listables);
-        if (!listablesAreUnique(listables)) {
-            throw new DuplicateListableException();
-        }
+        Map<Object, Integer> replacementIndex = indexByKey(listables);
 
+        keyIndex.clear();
+        keyIndex.putAll(replacementIndex);
+        stalePositionsFrom = NO_STALE_POSITIONS;
+        reindex(listables);
         internalList.setAll(listables);
     }
 
+    /**
+     * Replaces the elements of the list with {@code reordered}, which must hold the same elements in another order.
+     * Unlike {@link #setListables(List)}, the secondary indexes are left as they are, as they do not depend on order.
+     */
+    public void reorder(List<Item> reordered) {
+        requireAllNonNull(reordered);
+        assert reordered.size() == internalList.size() : "Reordering must keep the same elements";
+        internalList.setAll(reordered);
+        stalePositionsFrom = 0;
+    }
+
+    /**
+     * Sorts the list using the given {@code comparator}.
+     */
     public void sortListables(Comparator<Item> comparator) {
         internalList.sort(comparator);
+        stalePositionsFrom = 0;
+    }
+
+    /**
+     * Starts a batch of modifications to this list. Until the batch is committed or rolled back, observers of the
+     * list are not notified of any modification, although the list and its indexes are modified as usual.
+     * Batches cannot be nested.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the current batch, notifying observers of the list of all its modifications as a single change.
+     */
+    public void commitBatch() {
+        internalList.endBatch();
+    }
+
+    /**
+     * Ends the current batch by undoing all its modifications, so that the list and its indexes are as they were
+     * when it began. Observers of the list are not notified.
+     */
+    public void rollbackBatch() {
+        internalList.cancelBatch();
+        keyIndex.clear();
+        keyIndex.putAll(indexByKey(internalList));
+        stalePositionsFrom = NO_STALE_POSITIONS;
+        reindex(internalList);
+    }
+
+    /**
+     * Returns an immutable copy of the current elements in constant time, as the copy shares its structure with
+     * this list. It can be read from any thread while this list continues to change.
+     */
+    public ObservableList<Item> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Returns the modifications that turned {@code earlier} into {@code later}, in order, if both are snapshots of
+     * the same list taken in that order. The modifications are found in time linear in their number.
+     * Returns an empty {@code Optional} if they are not, or if the list was replaced or reordered in between.
+     */
+    public static <T> Optional<List<ListModification<T>>> getModificationsBetween(List<T> earlier, List<T> later) {
+        requireAllNonNull(earlier, later);
+        return Optional.ofNullable(CoalescingObservableList.getModificationsBetween(earlier, later));
     }
 
     /**
@@ -112,7 +266,7 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
 
     @Override
     public Iterator<Item> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -128,16 +282,47 @@ public class UniqueList<Item extends Listable> implements Iterable<Item> {
     }
 
     /**
-     * Returns true if {@code listables} contains only unique elements.
+     * Repopulates all secondary indexes with {@code listables}.
+     */
+    private void reindex(List<Item> listables) {
+        for (ListableIndex<Item> index : indexes) {
+            index.clear();
+            index.addAll(listables);
+        }
+    }
+
+    /**
+     * Returns the position of the element equal to {@code item}, or -1 if there is no such element.
+     */
+    public int indexOf(Item item) {
+        requireNonNull(item);
+        Integer index = keyIndex.get(item.getListableKey());
+        if (index == null) {
+            return -1;
+        }
+
+        if (index >= stalePositionsFrom) {
+            keyIndex.putAll(indexByKey(internalList));
+            stalePositionsFrom = NO_STALE_POSITIONS;
+            index = keyIndex.get(item.getListableKey());
+        }
+
+        return internalList.get(index).equals(item) ? index : -1;
+    }
+
+    /**
+     * Returns a map from the identity key of every element in {@code listables} to its position.
+     *
+     * @throws DuplicateListableException if {@code listables} contains elements with the same identity.
      */
-    private boolean listablesAreUnique(List<Item> listables) {
-        for (int i = 0; i < listables.size() - 1; i++) {
-            for (int j = i + 1; j < listables.size(); j++) {
-                if (listables.get(i).isSameListable(listables.get(j))) {
-                    return false;
-                }
+    private Map<Object, Integer> indexByKey(List<Item> listables) {
+        Map<Object, Integer> index = new HashMap<>();
+        int position = 0;
+        for (Item listable : listables) {
+            if (index.put(listable.getListableKey(), position++) != null) {
+                throw new DuplicateListableException();
             }
         }
-        return true;
+        return index;
     }
 }
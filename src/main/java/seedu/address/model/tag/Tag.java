@@ -3,17 +3,23 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book with lowercase tag name.
+ * Every tag name is interned in the {@link TagDictionary}, which gives equal tags the same id.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
 
+    private final int id;
+
     /**
      * Converts name of tag to lowercase and constructs a {@code Tag}.
      *
@@ -23,20 +29,36 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName.toLowerCase();
+        this.id = TagDictionary.getId(this.tagName);
+    }
+
+    /**
+     * Constructs the interned {@code Tag} with the given lowercase name and dictionary id.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the id of this tag in the {@link TagDictionary}.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && id == ((Tag) other).id); // interned names are equal iff their ids are
     }
 
     @Override
@@ -0,0 +1,57 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns tag names, assigning each distinct name a small, dense and stable integer id.
+ * Ids index into the bitsets of {@link TagSet}, so that every tagged entity stores its tags compactly.
+ * The dictionary is shared by the whole application and is safe to use from multiple threads.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    private static final List<Tag> tagsById = new ArrayList<>();
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the id of the tag with the given lowercase {@code tagName}, interning the name if it is new.
+     * Names that are already interned are looked up without locking, as loading an address book in parallel
+     * looks up the same few names from many threads.
+     */
+    static int getId(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            return tag.getId();
+        }
+        synchronized (TagDictionary.class) {
+            tag = tagsByName.get(tagName);
+            if (tag == null) {
+                tag = new Tag(tagName, tagsById.size());
+                tagsById.add(tag);
+                tagsByName.put(tagName, tag);
+            }
+            return tag.getId();
+        }
+    }
+
+    /**
+     * Returns the interned tag with the given {@code id}.
+     */
+    public static synchronized Tag getTag(int id) {
+        return tagsById.get(id);
+    }
+
+    /**
+     * Returns the number of distinct tags interned so far, which is one more than the largest id.
+     */
+    public static synchronized int size() {
+        return tagsById.size();
+    }
+}
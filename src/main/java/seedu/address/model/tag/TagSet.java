@@ -0,0 +1,182 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of tags, stored as a bitset over {@link TagDictionary} ids.
+ * Iterates over its tags in order of tag name.
+ * Mutators throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new long[0]);
+
+    private final long[] words;
+    private final int size;
+    /** The tags in order of tag name, sorted on the first iteration, as the set never changes. */
+    private volatile Tag[] sortedTags;
+
+    private TagSet(long[] words) {
+        this.words = words;
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        this.size = cardinality;
+    }
+
+    /**
+     * Returns the empty tag set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tag set containing the given {@code tags}.
+     * Returns {@code tags} itself if it is already a {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int maxId = 0;
+        for (Tag tag : tags) {
+            maxId = Math.max(maxId, tag.getId());
+        }
+        long[] words = new long[wordIndex(maxId) + 1];
+        for (Tag tag : tags) {
+            words[wordIndex(tag.getId())] |= bit(tag.getId());
+        }
+        return new TagSet(words);
+    }
+
+    /**
+     * Returns the dictionary ids of the tags in this set, in ascending order.
+     */
+    public IntStream ids() {
+        return IntStream.range(0, words.length * Long.SIZE).filter(this::containsId);
+    }
+
+    /**
+     * Returns true if this set contains the tag with the given dictionary {@code id}.
+     */
+    public boolean containsId(int id) {
+        int wordIndex = wordIndex(id);
+        return id >= 0 && wordIndex < words.length && (words[wordIndex] & bit(id)) != 0;
+    }
+
+    /**
+     * Returns true if this set contains every tag in {@code other}.
+     */
+    public boolean containsAll(TagSet other) {
+        requireNonNull(other);
+        for (int i = 0; i < other.words.length; i++) {
+            long word = i < words.length ? words[i] : 0;
+            if ((other.words[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> other) {
+        if (other instanceof TagSet) {
+            return containsAll((TagSet) other);
+        }
+        return super.containsAll(other);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && containsId(((Tag) other).getId());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        Tag[] tags = sortedTags;
+        if (tags == null) {
+            // Sorting again on a racing first iteration gives the same order, so it needs no lock.
+            tags = ids().mapToObj(TagDictionary::getTag).toArray(Tag[]::new);
+            Arrays.sort(tags, Comparator.comparing(tag -> tag.tagName));
+            sortedTags = tags;
+        }
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            TagSet otherSet = (TagSet) other;
+            return size == otherSet.size && containsAll(otherSet);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return ids().mapToObj(TagDictionary::getTag).mapToInt(Tag::hashCode).sum();
+    }
+
+    private static int wordIndex(int id) {
+        return id / Long.SIZE;
+    }
+
+    private static long bit(int id) {
+        return 1L << (id % Long.SIZE);
+    }
+}
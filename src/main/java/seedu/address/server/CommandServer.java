@@ -0,0 +1,360 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_FILE_COMMAND_WITHOUT_UI;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Lets other programs on this machine execute commands, as if they were entered by the user, by sending them one
+ * per line to a socket on the loopback interface.
+ * Each command is answered with one line, in the order the commands were sent: {@code OK} and the feedback of a
+ * command that succeeded, or {@code ERROR} and the error of one that failed, with line breaks and backslashes in
+ * them escaped as {@code \n} and {@code \\}.
+ * Clients may pipeline commands, sending many of them before reading their answers. The commands received from a
+ * connection at once are executed together, on the thread of the model's executor, and saved once after the last of
+ * them. While they are executed, nothing more is read from that connection.
+ * All connections are served by a single thread, with non-blocking I/O.
+ */
+public class CommandServer {
+
+    public static final String ANSWER_OK = "OK ";
+    public static final String ANSWER_ERROR = "ERROR ";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+    private static final String THREAD_NAME = "command-server";
+    private static final int READ_BUFFER_BYTES = 8192;
+    private static final int MAX_LINE_BYTES = 1 << 20;
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Queue<Runnable> serverTasks = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread serverThread;
+    private volatile boolean isRunning;
+
+    /**
+     * Creates a server that executes commands with {@code logic}, on {@code modelExecutor}, which must run them one
+     * at a time on the thread that may access the model.
+     */
+    public CommandServer(Logic logic, Executor modelExecutor) {
+        this.logic = requireNonNull(logic);
+        this.modelExecutor = requireNonNull(modelExecutor);
+    }
+
+    /**
+     * Starts accepting connections on {@code port} of the loopback interface, or on any free port if it is 0.
+     *
+     * @throws IOException If the port cannot be listened on.
+     */
+    public void start(int port) throws IOException {
+        assert serverThread == null : "The server can only be started once";
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+
+        isRunning = true;
+        serverThread = new Thread(this::serve, THREAD_NAME);
+        serverThread.setDaemon(true);
+        serverThread.start();
+        logger.info("Accepting commands on port " + getPort());
+    }
+
+    /**
+     * Returns the port on which connections are accepted.
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Stops accepting connections and closes those that are open, waiting for the server's thread to end.
+     * The commands being executed are still executed, but their answers are not sent.
+     */
+    public void stop() {
+        if (serverThread == null) {
+            return;
+        }
+        isRunning = false;
+        selector.wakeup();
+        try {
+            serverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void serve() {
+        try {
+            while (isRunning) {
+                selector.select();
+                for (Runnable task = serverTasks.poll(); task != null; task = serverTasks.poll()) {
+                    task.run();
+                }
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Command server failed " + StringUtil.getDetails(e));
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            close(selector);
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            Connection connection = (Connection) key.attachment();
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.write();
+            }
+        } catch (IOException e) {
+            logger.info("Closing command connection " + StringUtil.getDetails(e));
+            close(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Runs {@code task} on the server's thread, which is woken up to do so.
+     */
+    private void runOnServer(Runnable task) {
+        serverTasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Executes {@code commandTexts}, saving the address book once after all of them, and returns their answers.
+     * Must be run by the model's executor.
+     */
+    private List<String> executeAll(List<String> commandTexts) {
+        List<String> answers = new ArrayList<>(commandTexts.size());
+        logic.executeSavingOnce(() -> commandTexts.forEach(commandText -> answers.add(execute(commandText))));
+        return answers;
+    }
+
+    private String execute(String commandText) {
+        try {
+            ParsedCommand parsedCommand = logic.parse(commandText);
+            if (parsedCommand.getPreAction().requiresFile()) {
+                return answer(ANSWER_ERROR, MESSAGE_FILE_COMMAND_WITHOUT_UI);
+            }
+            return answer(ANSWER_OK, logic.execute(parsedCommand).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            return answer(ANSWER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the line answering a command, without its line break.
+     */
+    static String answer(String status, String message) {
+        return status + message.replace("\\", "\\\\").replace("\r", "").replace("\n", "\\n");
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        close(key.channel());
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.fine("Failed to close " + closeable + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * A client's connection, whose commands are executed in the order they were received, one group at a time.
+     * Only accessed by the server's thread.
+     */
+    private class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private final List<String> receivedCommands = new ArrayList<>();
+        private final Deque<ByteBuffer> unwrittenAnswers = new ArrayDeque<>();
+        private boolean isExecuting;
+        private boolean isInputEnded;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Reads the commands that have arrived, and executes them unless earlier ones are still being executed.
+         */
+        void read() throws IOException {
+            int readCount = channel.read(readBuffer);
+            if (readCount < 0) {
+                isInputEnded = true;
+            }
+
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte b = readBuffer.get();
+                if (b != '\n') {
+                    partialLine.write(b);
+                    continue;
+                }
+                receiveLine();
+            }
+            readBuffer.clear();
+            if (partialLine.size() > MAX_LINE_BYTES) {
+                throw new IOException("Command longer than " + MAX_LINE_BYTES + " bytes");
+            }
+            // The last command need not end with a line break, as the end of the input ends it too.
+            if (isInputEnded) {
+                receiveLine();
+            }
+
+            executeReceived();
+            update();
+        }
+
+        /**
+         * Adds the line read so far, unless it is blank, to the commands received.
+         */
+        private void receiveLine() {
+            String line = partialLine.toString(StandardCharsets.UTF_8);
+            partialLine.reset();
+            if (!line.isBlank()) {
+                receivedCommands.add(line.strip());
+            }
+        }
+
+        private void executeReceived() {
+            if (isExecuting || receivedCommands.isEmpty()) {
+                return;
+            }
+            List<String> commandTexts = List.copyOf(receivedCommands);
+            receivedCommands.clear();
+            isExecuting = true;
+            modelExecutor.execute(() -> {
+                try {
+                    List<String> answers = executeAll(commandTexts);
+                    runOnServer(() -> answered(answers));
+                } catch (RuntimeException e) {
+                    runOnServer(() -> close(key));
+                    throw e;
+                }
+            });
+        }
+
+        private void answered(List<String> answers) {
+            if (!key.isValid()) {
+                return;
+            }
+            StringBuilder text = new StringBuilder();
+            answers.forEach(answer -> text.append(answer).append('\n'));
+            unwrittenAnswers.add(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8)));
+            isExecuting = false;
+            try {
+                write();
+            } catch (IOException e) {
+                logger.info("Closing command connection " + StringUtil.getDetails(e));
+                close(key);
+            }
+        }
+
+        /**
+         * Writes as many answers as the connection takes without blocking.
+         */
+        void write() throws IOException {
+            while (!unwrittenAnswers.isEmpty()) {
+                ByteBuffer answers = unwrittenAnswers.peek();
+                channel.write(answers);
+                if (answers.hasRemaining()) {
+                    break;
+                }
+                unwrittenAnswers.poll();
+            }
+            executeReceived();
+            update();
+        }
+
+        /**
+         * Reads more only once every command read has been answered, so that a client that sends commands faster
+         * than they are executed, or than it reads their answers, is made to wait. Closes the connection once the
+         * client has stopped sending and every command has been answered.
+         */
+        private void update() {
+            if (!key.isValid()) {
+                return;
+            }
+            boolean isIdle = !isExecuting && receivedCommands.isEmpty() && unwrittenAnswers.isEmpty();
+            if (isInputEnded && isIdle) {
+                close(key);
+                return;
+            }
+            int interest = isIdle && !isInputEnded ? SelectionKey.OP_READ : 0;
+            if (!unwrittenAnswers.isEmpty()) {
+                interest |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(interest);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to storage on a dedicated background thread (write-behind).
+ * Only the latest address book submitted is kept pending, so a burst of saves submitted while a write is in
+ * progress is coalesced into a single write of the latest one.
+ * Each address book is saved with the version of the address book it was taken from, and the saver keeps the
+ * version it last wrote successfully, so that a failed save can be retried.
+ * Save failures are passed to a failure handler on the saving thread.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+    private static final String THREAD_NAME = "address-book-saver";
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final AddressBookStorage storage;
+    private final ThreadPoolExecutor executor;
+    private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+    private volatile long savedVersion;
+
+    /**
+     * Creates a saver that writes address books to {@code storage}, which already holds the version
+     * {@code savedVersion} of the address book.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, long savedVersion) {
+        this.storage = requireNonNull(storage);
+        this.savedVersion = savedVersion;
+        executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), AsyncAddressBookSaver::newSaverThread);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the handler that is given the exception of every failed save.
+     * The handler is called on the saving thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Schedules {@code addressBook}, the version {@code version} of the address book, to be saved, replacing any
+     * address book still waiting to be saved. It is not written if that version has been saved by then.
+     * {@code addressBook} must not be modified afterwards, as it is read on the saving thread.
+     */
+    public void save(ReadOnlyAddressBook addressBook, long version) {
+        requireNonNull(addressBook);
+        if (pending.getAndSet(new PendingSave(addressBook, version)) == null) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Returns the version of the address book last saved successfully.
+     */
+    public long getSavedVersion() {
+        return savedVersion;
+    }
+
+    /**
+     * Blocks until every address book submitted before this call has been saved or has failed to save.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread newSaverThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void savePending() {
+        PendingSave save = pending.getAndSet(null);
+        if (save == null || save.version == savedVersion) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(save.addressBook);
+            savedVersion = save.version;
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An address book waiting to be saved, with its version.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final long version;
+
+        PendingSave(ReadOnlyAddressBook addressBook, long version) {
+            this.addressBook = addressBook;
+            this.version = version;
+        }
+    }
+}
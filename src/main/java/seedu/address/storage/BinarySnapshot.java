@@ -0,0 +1,409 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.field.Email;
+import seedu.address.model.field.Name;
+import seedu.address.model.field.Person;
+import seedu.address.model.field.Phone;
+import seedu.address.model.field.Price;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An address book in the binary snapshot format, which is laid out as follows.
+ * All counts, lengths, string indices and prices are unsigned varints of 7 bits per byte, least significant first.
+ * <ol>
+ *     <li>The 4 {@link #MAGIC} bytes and the format {@link #VERSION}.</li>
+ *     <li>The string table: the number of strings, then each string as its length and its UTF-8 bytes.
+ *     Names, addresses, phones, emails and tag names are stored as indices into this table.</li>
+ *     <li>The number of properties, then each property record as its length and its contents: name, address,
+ *     seller name, seller phone, seller email, price, number of tags and tags.</li>
+ *     <li>The number of buyers, then each buyer record as its length and its contents: name, phone, email,
+ *     maximum price, number of tags and tags.</li>
+ * </ol>
+ * Strings and records are length-prefixed so that they can be located without being decoded.
+ * Strings are decoded once each, when first used by a decoded record.
+ */
+class BinarySnapshot {
+
+    public static final int MAGIC = 0x50575A42; // "PWZB"
+    public static final int VERSION = 1;
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a binary address book snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version %d";
+    public static final String MESSAGE_CORRUPT_SNAPSHOT = "Binary snapshot is corrupt: %s";
+
+    private final ByteBuffer buffer;
+    private final RecordIndex stringRecords;
+    /** Strings decoded so far, by string index. */
+    private final String[] strings;
+    private final RecordIndex propertyRecords;
+    private final RecordIndex buyerRecords;
+    /** Tags decoded so far, by string index, as tags are shared by many records. */
+    private final Tag[] tags;
+
+    private BinarySnapshot(ByteBuffer buffer, RecordIndex stringRecords, RecordIndex propertyRecords,
+            RecordIndex buyerRecords) {
+        this.buffer = buffer;
+        this.stringRecords = stringRecords;
+        this.propertyRecords = propertyRecords;
+        this.buyerRecords = buyerRecords;
+        this.strings = new String[stringRecords.size()];
+        this.tags = new Tag[stringRecords.size()];
+    }
+
+    /**
+     * Reads the header of the snapshot in {@code buffer}, and locates its strings and records.
+     * Records are only decoded when asked for, and {@code buffer} must not be modified while they are.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a well-formed snapshot.
+     */
+    public static BinarySnapshot open(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = getCount(buffer);
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            RecordIndex stringRecords = RecordIndex.locate(buffer);
+            RecordIndex propertyRecords = RecordIndex.locate(buffer);
+            RecordIndex buyerRecords = RecordIndex.locate(buffer);
+            if (buffer.hasRemaining()) {
+                throw corrupt("trailing bytes after last record");
+            }
+            return new BinarySnapshot(buffer, stringRecords, propertyRecords, buyerRecords);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw corrupt("unexpected end of file");
+        }
+    }
+
+    public int getPropertyCount() {
+        return propertyRecords.size();
+    }
+
+    public int getBuyerCount() {
+        return buyerRecords.size();
+    }
+
+    /**
+     * Decodes the property at {@code index} in the snapshot's property list.
+     *
+     * @throws IllegalValueException if the record is malformed or violates the property's data constraints.
+     */
+    public Property getProperty(int index) throws IllegalValueException {
+        ByteBuffer record = propertyRecords.get(buffer, index);
+        try {
+            Name name = new Name(getString(record));
+            Address address = new Address(getString(record));
+            Person seller = new Person(new Name(getString(record)), new Phone(getString(record)),
+                    new Email(getString(record)));
+            Price price = new Price(getVarLong(record));
+            return new Property(name, address, seller, price, getTags(record));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        } catch (BufferUnderflowException bue) {
+            throw corrupt("truncated property record " + index);
+        }
+    }
+
+    /**
+     * Decodes the buyer at {@code index} in the snapshot's buyer list.
+     *
+     * @throws IllegalValueException if the record is malformed or violates the buyer's data constraints.
+     */
+    public Buyer getBuyer(int index) throws IllegalValueException {
+        ByteBuffer record = buyerRecords.get(buffer, index);
+        try {
+            Name name = new Name(getString(record));
+            Phone phone = new Phone(getString(record));
+            Email email = new Email(getString(record));
+            Price maxPrice = new Price(getVarLong(record));
+            return new Buyer(name, phone, email, maxPrice, getTags(record));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        } catch (BufferUnderflowException bue) {
+            throw corrupt("truncated buyer record " + index);
+        }
+    }
+
+    private String getString(ByteBuffer record) throws IllegalValueException {
+        return getString(getStringIndex(record));
+    }
+
+    private String getString(int index) {
+        if (strings[index] == null) {
+            ByteBuffer string = stringRecords.get(buffer, index);
+            byte[] bytes = new byte[string.remaining()];
+            string.get(bytes);
+            strings[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[index];
+    }
+
+    private int getStringIndex(ByteBuffer record) throws IllegalValueException {
+        int index = getCount(record);
+        if (index >= strings.length) {
+            throw corrupt("string index " + index + " out of range");
+        }
+        return index;
+    }
+
+    private TagSet getTags(ByteBuffer record) throws IllegalValueException {
+        int count = getCount(record);
+        if (count == 0) {
+            return TagSet.empty();
+        }
+        List<Tag> recordTags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = getStringIndex(record);
+            if (tags[index] == null) {
+                tags[index] = new Tag(getString(index));
+            }
+            recordTags.add(tags[index]);
+        }
+        return TagSet.of(recordTags);
+    }
+
+    private static IllegalValueException corrupt(String detail) {
+        return new IllegalValueException(String.format(MESSAGE_CORRUPT_SNAPSHOT, detail));
+    }
+
+    /**
+     * Reads a varint that must fit in a non-negative int.
+     */
+    private static int getCount(ByteBuffer buffer) throws IllegalValueException {
+        long value = getVarLong(buffer);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw corrupt("count " + value + " out of range");
+        }
+        return (int) value;
+    }
+
+    private static long getVarLong(ByteBuffer buffer) throws IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw corrupt("malformed varint");
+    }
+
+    /**
+     * The locations of the contents of a run of records.
+     */
+    private static class RecordIndex {
+        private final int[] offsets;
+        private final int[] ends;
+
+        private RecordIndex(int size) {
+            offsets = new int[size];
+            ends = new int[size];
+        }
+
+        /**
+         * Skips over a count-prefixed run of length-prefixed records in {@code buffer}, and returns their locations.
+         */
+        static RecordIndex locate(ByteBuffer buffer) throws IllegalValueException {
+            RecordIndex index = new RecordIndex(getCount(buffer));
+            for (int i = 0; i < index.size(); i++) {
+                int length = getCount(buffer);
+                index.offsets[i] = buffer.position();
+                buffer.position(buffer.position() + length);
+                index.ends[i] = buffer.position();
+            }
+            return index;
+        }
+
+        int size() {
+            return offsets.length;
+        }
+
+        /**
+         * Returns a view of the contents of the record at {@code index} in {@code buffer}.
+         * Its position is independent of that of other views.
+         */
+        ByteBuffer get(ByteBuffer buffer, int index) {
+            ByteBuffer record = buffer.duplicate();
+            record.limit(ends[index]).position(offsets[index]);
+            return record;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary snapshot format.
+     * The stream is not closed.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        StringTable strings = new StringTable();
+        RecordList propertyRecords = new RecordList();
+        for (Property property : addressBook.getPropertyList()) {
+            ByteSink record = propertyRecords.startRecord();
+            record.putVarLong(strings.indexOf(property.getName().fullName));
+            record.putVarLong(strings.indexOf(property.getAddress().value));
+            Person seller = property.getSeller();
+            record.putVarLong(strings.indexOf(seller.getName().fullName));
+            record.putVarLong(strings.indexOf(seller.getPhone().value));
+            record.putVarLong(strings.indexOf(seller.getEmail().value));
+            record.putVarLong(property.getPrice().value);
+            putTags(record, property.getTags(), strings);
+            propertyRecords.endRecord();
+        }
+        RecordList buyerRecords = new RecordList();
+        for (Buyer buyer : addressBook.getBuyerList()) {
+            ByteSink record = buyerRecords.startRecord();
+            record.putVarLong(strings.indexOf(buyer.getName().fullName));
+            record.putVarLong(strings.indexOf(buyer.getPhone().value));
+            record.putVarLong(strings.indexOf(buyer.getEmail().value));
+            record.putVarLong(buyer.getMaxPrice().value);
+            putTags(record, buyer.getTags(), strings);
+            buyerRecords.endRecord();
+        }
+
+        ByteSink header = new ByteSink();
+        header.putInt(MAGIC);
+        header.putVarLong(VERSION);
+        strings.writeTo(header);
+        header.writeTo(out);
+        propertyRecords.writeTo(out);
+        buyerRecords.writeTo(out);
+    }
+
+    private static void putTags(ByteSink record, Set<Tag> recordTags, StringTable strings) {
+        record.putVarLong(recordTags.size());
+        for (Tag tag : recordTags) {
+            record.putVarLong(strings.indexOf(tag.tagName));
+        }
+    }
+
+    /**
+     * Assigns consecutive indices to distinct strings in order of first use.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String string) {
+            Integer index = indices.putIfAbsent(string, strings.size());
+            if (index != null) {
+                return index;
+            }
+            strings.add(string);
+            return strings.size() - 1;
+        }
+
+        void writeTo(ByteSink out) {
+            out.putVarLong(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.putVarLong(bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    /**
+     * A run of records, each prefixed by its length, which is itself prefixed by the number of records.
+     */
+    private static class RecordList {
+        private final ByteSink records = new ByteSink();
+        private final ByteSink record = new ByteSink();
+        private int count;
+
+        /**
+         * Returns an empty buffer for the contents of the next record, to be completed by {@link #endRecord()}.
+         */
+        ByteSink startRecord() {
+            record.reset();
+            return record;
+        }
+
+        void endRecord() {
+            records.putVarLong(record.size());
+            record.appendTo(records);
+            count++;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            ByteSink prefix = new ByteSink();
+            prefix.putVarLong(count);
+            prefix.writeTo(out);
+            records.writeTo(out);
+        }
+    }
+
+    /**
+     * A growable byte buffer that, unlike its superclass, does not synchronize on every byte written.
+     */
+    private static class ByteSink extends ByteArrayOutputStream {
+
+        void putInt(int value) {
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                write(value >>> shift);
+            }
+        }
+
+        void putVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void appendTo(ByteSink other) {
+            other.write(buf, 0, count);
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        @Override
+        public void reset() {
+            count = 0;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(capacity, buf.length * 2));
+            }
+        }
+    }
+}
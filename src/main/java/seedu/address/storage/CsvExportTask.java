@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * An export of properties or buyers to a csv file that runs on a dedicated background thread.
+ * The export writes a copy of the list taken when it starts, so the list may keep changing while it runs.
+ * It reports how many rows it has written, and can be cancelled, in which case the partly written file is deleted.
+ */
+public class CsvExportTask {
+
+    private static final Logger logger = LogsCenter.getLogger(CsvExportTask.class);
+    private static final String THREAD_NAME = "csv-exporter";
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+    private static final ThreadPoolExecutor executor = newExecutor();
+
+    private final File file;
+    private final int totalCount;
+    private final Exporter exporter;
+    private final CompletableFuture<Integer> completion = new CompletableFuture<>();
+    private volatile int exportedCount;
+    private volatile boolean isCancelled;
+
+    private final CsvManager.ExportMonitor monitor = new CsvManager.ExportMonitor() {
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+
+        @Override
+        public void reportProgress(int exportedCount) {
+            CsvExportTask.this.exportedCount = exportedCount;
+        }
+    };
+
+    /**
+     * Creates an export of {@code totalCount} rows to {@code file} that is done by {@code exporter} when run.
+     */
+    CsvExportTask(File file, int totalCount, Exporter exporter) {
+        this.file = file;
+        this.totalCount = totalCount;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts exporting a copy of {@code properties} to {@code file} in the background.
+     *
+     * @see CsvManager#exportProperties(List, File)
+     */
+    static CsvExportTask exportProperties(List<Property> properties, File file) {
+        requireAllNonNull(properties, file);
+        List<Property> snapshot = List.copyOf(properties);
+        return start(new CsvExportTask(file, snapshot.size(), monitor ->
+                CsvManager.exportProperties(snapshot, file, monitor)));
+    }
+
+    /**
+     * Starts exporting a copy of {@code buyers} to {@code file} in the background.
+     *
+     * @see CsvManager#exportBuyers(List, File)
+     */
+    static CsvExportTask exportBuyers(List<Buyer> buyers, File file) {
+        requireAllNonNull(buyers, file);
+        List<Buyer> snapshot = List.copyOf(buyers);
+        return start(new CsvExportTask(file, snapshot.size(), monitor ->
+                CsvManager.exportBuyers(snapshot, file, monitor)));
+    }
+
+    private static CsvExportTask start(CsvExportTask task) {
+        executor.execute(task::run);
+        return task;
+    }
+
+    /**
+     * Returns the number of rows to export.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of rows exported so far. It is only updated every few rows, and is only guaranteed to equal
+     * {@link #getTotalCount()} once the export has completed.
+     */
+    public int getExportedCount() {
+        return exportedCount;
+    }
+
+    /**
+     * Requests that the export stops. Once it does, its completion fails with a {@code CancellationException}.
+     * An export that has already written every row completes normally.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    /**
+     * Returns true if the export has been asked to stop.
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Returns a future that is completed with the number of rows exported once the export ends.
+     * It fails with the {@code IOException} if the file could not be written, or with a
+     * {@code CancellationException} if the export was cancelled.
+     */
+    public CompletableFuture<Integer> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Runs the export on the calling thread.
+     */
+    void run() {
+        try {
+            exporter.export(monitor);
+            completion.complete(exportedCount);
+        } catch (CancellationException ce) {
+            deletePartialFile();
+            completion.completeExceptionally(ce);
+        } catch (IOException ioe) {
+            logger.warning("Failed to export to " + file + " " + StringUtil.getDetails(ioe));
+            completion.completeExceptionally(ioe);
+        } catch (RuntimeException re) {
+            completion.completeExceptionally(re);
+            throw re;
+        }
+    }
+
+    private void deletePartialFile() {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete cancelled export " + file + " " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), CsvExportTask::newExporterThread);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Thread newExporterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Writes the rows of an export, reporting progress to and checking for cancellation with the given monitor.
+     */
+    @FunctionalInterface
+    interface Exporter {
+        void export(CsvManager.ExportMonitor monitor) throws IOException;
+    }
+}
@@ -1,23 +1,49 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
+import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
 
 /**
  * Manages exporting to or importing from csv.
  */
 public class CsvManager {
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected %d columns, but found %d";
+
+    private static final String[] PROPERTY_HEADER = {"Name", "Address", "Seller Name", "Phone", "Email", "Price",
+        "Tags"};
+    private static final String[] BUYER_HEADER = {"Name", "Phone", "Email", "Budget", "Tags"};
+    private static final String TAG_SEPARATOR = ",";
+
+    /** Size in characters of the buffer that exported rows are written through. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    /** Number of rows exported between reports of progress and checks for cancellation. */
+    private static final int ROWS_PER_PROGRESS_REPORT = 1024;
+
     /**
      * Exports properties in the given {@link ReadOnlyAddressBook} to the csv file.
      *
@@ -26,20 +52,18 @@ public class CsvManager {
      * @throws IOException if there was any problem writing to the file.
      */
     public static void exportProperties(List<Property> properties, File file) throws IOException {
-        requireAllNonNull(file, properties);
-        CSVWriter writer = new CSVWriter(new FileWriter(file));
-        String[] header = {"Name", "Address", "Seller Name", "Phone", "Email", "Price", "Tags"};
-        writer.writeNext(header);
-        for (Property property : properties) {
-            String tagString = property.getTags().stream()
-                    .map(x -> x.tagName)
-                    .collect(Collectors.joining(","));
-            String[] entries = {property.getName().toString(), property.getAddress().toString(),
-                    property.getSeller().getName().toString(), property.getSeller().getPhone().toString(),
-                    property.getSeller().getEmail().toString(), property.getPrice().toString(), tagString};
-            writer.writeNext(entries);
-        }
-        writer.close();
+        exportProperties(properties, file, ExportMonitor.NONE);
+    }
+
+    /**
+     * Exports properties to the csv file, reporting progress to and checking for cancellation with {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} cancelled the export, leaving the file partly written.
+     * @see #exportProperties(List, File)
+     */
+    static void exportProperties(List<Property> properties, File file, ExportMonitor monitor) throws IOException {
+        requireAllNonNull(file, properties, monitor);
+        export(properties, file, PROPERTY_HEADER, CsvManager::fillRow, monitor);
     }
 
     /**
@@ -50,18 +74,189 @@ public class CsvManager {
      * @throws IOException if there was any problem writing to the file.
      */
     public static void exportBuyers(List<Buyer> buyers, File file) throws IOException {
-        requireAllNonNull(file, buyers);
-        CSVWriter writer = new CSVWriter(new FileWriter(file));
-        String[] header = {"Name", "Phone", "Email", "Budget", "Tags"};
-        writer.writeNext(header);
-        for (Buyer buyer : buyers) {
-            String tagString = buyer.getTags().stream()
-                    .map(x -> x.tagName)
-                    .collect(Collectors.joining(","));
-            String[] entries = {buyer.getName().toString(), buyer.getPhone().toString(),
-                    buyer.getEmail().toString(), buyer.getMaxPrice().toString(), tagString};
-            writer.writeNext(entries);
+        exportBuyers(buyers, file, ExportMonitor.NONE);
+    }
+
+    /**
+     * Exports buyers to the csv file, reporting progress to and checking for cancellation with {@code monitor}.
+     *
+     * @throws CancellationException if {@code monitor} cancelled the export, leaving the file partly written.
+     * @see #exportBuyers(List, File)
+     */
+    static void exportBuyers(List<Buyer> buyers, File file, ExportMonitor monitor) throws IOException {
+        requireAllNonNull(file, buyers, monitor);
+        export(buyers, file, BUYER_HEADER, CsvManager::fillRow, monitor);
+    }
+
+    /**
+     * Writes {@code header} and then a row for each of {@code items} to the csv file, through a buffer.
+     * A single row array is filled by {@code rowFiller} and written for every item.
+     */
+    private static <T> void export(List<T> items, File file, String[] header, BiConsumer<T, String[]> rowFiller,
+            ExportMonitor monitor) throws IOException {
+        String[] row = new String[header.length];
+        try (CSVWriter writer = new CSVWriter(new BufferedWriter(new FileWriter(file), WRITE_BUFFER_SIZE))) {
+            writer.writeNext(header);
+            int exportedCount = 0;
+            for (T item : items) {
+                if (exportedCount % ROWS_PER_PROGRESS_REPORT == 0) {
+                    if (monitor.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    monitor.reportProgress(exportedCount);
+                }
+                rowFiller.accept(item, row);
+                writer.writeNext(row);
+                exportedCount++;
+            }
+            monitor.reportProgress(exportedCount);
+        }
+    }
+
+    private static void fillRow(Property property, String[] row) {
+        row[0] = property.getName().toString();
+        row[1] = property.getAddress().toString();
+        row[2] = property.getSeller().getName().toString();
+        row[3] = property.getSeller().getPhone().toString();
+        row[4] = property.getSeller().getEmail().toString();
+        row[5] = property.getPrice().toString();
+        row[6] = joinTags(property.getTags());
+    }
+
+    private static void fillRow(Buyer buyer, String[] row) {
+        row[0] = buyer.getName().toString();
+        row[1] = buyer.getPhone().toString();
+        row[2] = buyer.getEmail().toString();
+        row[3] = buyer.getMaxPrice().toString();
+        row[4] = joinTags(buyer.getTags());
+    }
+
+    /**
+     * Returns the contents of a tags column holding {@code tags}, separated by {@code TAG_SEPARATOR}.
+     */
+    private static String joinTags(Collection<Tag> tags) {
+        StringBuilder joined = new StringBuilder();
+        for (Tag tag : tags) {
+            if (joined.length() > 0) {
+                joined.append(TAG_SEPARATOR);
+            }
+            joined.append(tag.tagName);
         }
-        writer.close();
+        return joined.toString();
+    }
+
+    /**
+     * Imports the properties in the csv file, which has the same columns as a file written by
+     * {@link #exportProperties(List, File)}.
+     * The file is read one row at a time, after which the rows are converted and validated in parallel.
+     *
+     * @param file cannot be null.
+     * @throws IOException if there was any problem reading from the file.
+     * @throws DataConversionException if the file is not valid csv, or any of its rows is not a valid property or
+     *     has the same name as an earlier one.
+     */
+    public static List<Property> importProperties(File file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        List<String[]> rows = readRows(file);
+        try {
+            return ParallelAddressBookLoader.convertAll(ParallelAddressBookLoader.PROPERTIES_NAME, rows.size(),
+                    index -> toProperty(rows.get(index)));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Imports the buyers in the csv file, which has the same columns as a file written by
+     * {@link #exportBuyers(List, File)}.
+     * The file is read one row at a time, after which the rows are converted and validated in parallel.
+     *
+     * @param file cannot be null.
+     * @throws IOException if there was any problem reading from the file.
+     * @throws DataConversionException if the file is not valid csv, or any of its rows is not a valid buyer or
+     *     has the same name as an earlier one.
+     */
+    public static List<Buyer> importBuyers(File file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        List<String[]> rows = readRows(file);
+        try {
+            return ParallelAddressBookLoader.convertAll(ParallelAddressBookLoader.BUYERS_NAME, rows.size(),
+                    index -> toBuyer(rows.get(index)));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the rows of the csv file after its header row.
+     */
+    private static List<String[]> readRows(File file) throws IOException, DataConversionException {
+        List<String[]> rows = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new BufferedReader(new FileReader(file)))) {
+            reader.readNext();
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                rows.add(row);
+            }
+        } catch (CsvValidationException cve) {
+            throw new DataConversionException(cve);
+        }
+        return rows;
+    }
+
+    private static Property toProperty(String[] row) throws IllegalValueException {
+        requireColumnCount(row, PROPERTY_HEADER.length);
+        JsonAdaptedPerson seller = new JsonAdaptedPerson(row[2], row[3], row[4]);
+        return new JsonAdaptedProperty(row[0], row[1], seller, row[5], toAdaptedTags(row[6])).toModelType();
+    }
+
+    private static Buyer toBuyer(String[] row) throws IllegalValueException {
+        requireColumnCount(row, BUYER_HEADER.length);
+        return new JsonAdaptedBuyer(row[0], row[1], row[2], row[3], toAdaptedTags(row[4])).toModelType();
+    }
+
+    private static void requireColumnCount(String[] row, int columnCount) throws IllegalValueException {
+        if (row.length != columnCount) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_COLUMN_COUNT, columnCount, row.length));
+        }
+    }
+
+    /**
+     * Returns the tags in a tags column, which holds the tag names separated by {@code TAG_SEPARATOR}.
+     */
+    private static List<JsonAdaptedTag> toAdaptedTags(String tagsColumn) {
+        if (tagsColumn.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(tagsColumn.split(TAG_SEPARATOR))
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Follows the progress of an export, and can cancel it.
+     * The monitor is called on the thread doing the export.
+     */
+    interface ExportMonitor {
+        /** A monitor for exports that are never cancelled, and whose progress is not followed. */
+        ExportMonitor NONE = new ExportMonitor() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public void reportProgress(int exportedCount) {}
+        };
+
+        /**
+         * Returns true if the export should stop before writing its remaining rows.
+         */
+        boolean isCancelled();
+
+        /**
+         * Reports that the first {@code exportedCount} rows have been written.
+         */
+        void reportProgress(int exportedCount);
     }
 }
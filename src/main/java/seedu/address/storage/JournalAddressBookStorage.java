@@ -0,0 +1,304 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.ListModification;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.UniqueList;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file together with a journal of the changes made
+ * since the snapshot was written.
+ * Saving an address book appends one record per changed property or buyer to the journal, instead of rewriting the
+ * whole snapshot. The records are the modifications the address book logged since the address book last saved, so
+ * a save costs time proportional to the changes rather than to the address book. Once the journal holds more
+ * records than the address book has entries, the address book is written out as a new snapshot and the journal is
+ * discarded. Address books whose changes are not logged by position, as when entries are sorted or the address book
+ * is replaced, or which did not follow the one last saved, as on the first save after reading, are also saved as a
+ * new snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String COMPACTION_EXTENSION = ".compacting";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int minRecordsBeforeCompaction;
+
+    /** The contents of the address book as last read or saved, or null if the files may differ from any. */
+    private List<Property> savedProperties;
+    private List<Buyer> savedBuyers;
+    private int journalLength;
+    /** True if the journal last read ends with an incomplete record, which must not be appended to. */
+    private boolean hasIncompleteRecord;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, MIN_RECORDS_BEFORE_COMPACTION);
+    }
+
+    /**
+     * Creates a storage that compacts the journal only once it holds at least {@code minRecordsBeforeCompaction}
+     * records.
+     */
+    JournalAddressBookStorage(Path filePath, int minRecordsBeforeCompaction) {
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.minRecordsBeforeCompaction = minRecordsBeforeCompaction;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal belonging to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    private static Path getCompactionFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTION_EXTENSION);
+    }
+
+    private static Path getTemporaryCompactionFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTION_EXTENSION + TEMPORARY_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        Path compactionPath = getCompactionFilePath(filePath);
+
+        // A compaction that stopped while the new snapshot was being written leaves the old files usable.
+        Files.deleteIfExists(getTemporaryCompactionFilePath(filePath));
+        // A compacted snapshot is only moved next to the old one once complete, so it finishes the compaction.
+        if (Files.exists(compactionPath)) {
+            Files.deleteIfExists(journalPath);
+            Files.move(compactionPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!Files.exists(journalPath)) {
+            snapshot.ifPresent(addressBook -> rememberSaved(filePath, addressBook, 0));
+            return snapshot;
+        }
+
+        List<Property> properties = snapshot.<List<Property>>map(data -> new ArrayList<>(data.getPropertyList()))
+                .orElseGet(ArrayList::new);
+        List<Buyer> buyers = snapshot.<List<Buyer>>map(data -> new ArrayList<>(data.getBuyerList()))
+                .orElseGet(ArrayList::new);
+        int replayed = replayJournal(journalPath, properties, buyers);
+        logger.info("Replayed " + replayed + " journal records from " + journalPath);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = ParallelAddressBookLoader.load(properties.size(), properties::get,
+                    buyers.size(), buyers::get);
+        } catch (IllegalValueException ive) {
+            logger.info("Journal " + journalPath + " results in duplicate entries: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        rememberSaved(filePath, addressBook, replayed);
+        if (hasIncompleteRecord) {
+            // Forces the next save to write a new snapshot and discard the journal.
+            savedProperties = null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to the given lists and returns the number of records.
+     * An unreadable last record is taken to be a save that was cut short, and is ignored.
+     */
+    private int replayJournal(Path journalPath, List<Property> properties, List<Buyer> buyers)
+            throws DataConversionException, IOException {
+        int count = 0;
+        hasIncompleteRecord = false;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last record in " + journalPath);
+                        hasIncompleteRecord = true;
+                        break;
+                    }
+                    throw new DataConversionException(e);
+                }
+                try {
+                    record.applyTo(properties, buyers);
+                } catch (IllegalValueException ive) {
+                    logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                    throw new DataConversionException(ive);
+                }
+                count++;
+                line = nextLine;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only appends to the journal if the files at {@code filePath} were last read or saved by this storage.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) || savedProperties == null) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        AddressBookSnapshot current = AddressBookSnapshot.of(addressBook);
+        List<Property> properties = current.getPropertyList();
+        List<Buyer> buyers = current.getBuyerList();
+        boolean isJournalable = addChangeRecords(savedProperties, properties, records,
+                JsonAdaptedJournalRecord::ofProperty, JsonAdaptedJournalRecord::ofPropertyDeletion)
+                && addChangeRecords(savedBuyers, buyers, records,
+                JsonAdaptedJournalRecord::ofBuyer, JsonAdaptedJournalRecord::ofBuyerDeletion);
+
+        if (isJournalable && records.isEmpty()) {
+            return;
+        }
+        int newJournalLength = journalLength + records.size();
+        if (!isJournalable
+                || newJournalLength > Math.max(minRecordsBeforeCompaction, properties.size() + buyers.size())) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        Files.write(getJournalFilePath(filePath), lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        rememberSaved(filePath, addressBook, newJournalLength);
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath} and discards its journal.
+     * The snapshot is written to a temporary file and forced to disk first, then moved atomically next to the old
+     * snapshot, so that the old snapshot and journal remain usable until the new snapshot is complete.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path temporaryPath = getTemporaryCompactionFilePath(filePath);
+        Path compactionPath = getCompactionFilePath(filePath);
+        snapshotStorage.saveAddressBook(addressBook, temporaryPath);
+        FileUtil.sync(temporaryPath);
+        Files.move(temporaryPath, compactionPath, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        Files.move(compactionPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        rememberSaved(filePath, addressBook, 0);
+    }
+
+    private void rememberSaved(Path filePath, ReadOnlyAddressBook addressBook, int journalLength) {
+        if (!filePath.equals(this.filePath)) {
+            return;
+        }
+        // A snapshot of an address book shares its structure rather than copying it, and never changes.
+        AddressBookSnapshot saved = AddressBookSnapshot.of(addressBook);
+        savedProperties = saved.getPropertyList();
+        savedBuyers = saved.getBuyerList();
+        this.journalLength = journalLength;
+    }
+
+    /**
+     * Adds to {@code records} the records that turn {@code saved} into {@code current}, and returns true.
+     * The records are the modifications logged between the two snapshots. Returns false if they cannot be replayed
+     * by position, or if {@code current} is not a later snapshot of the same list as {@code saved}.
+     */
+    private static <T> boolean addChangeRecords(List<T> saved, List<T> current,
+            List<JsonAdaptedJournalRecord> records, RecordFactory<T> recordFactory,
+            IntFunction<JsonAdaptedJournalRecord> deletionRecordFactory) {
+        Optional<List<ListModification<T>>> modifications = UniqueList.getModificationsBetween(saved, current);
+        if (modifications.isEmpty()) {
+            return false;
+        }
+
+        for (ListModification<T> modification : modifications.get()) {
+            int index = modification.getIndex();
+            switch (modification.getKind()) {
+            case ADD:
+                for (T added : modification.getElements()) {
+                    records.add(recordFactory.create(JsonAdaptedJournalRecord.OPERATION_ADD, index++, added));
+                }
+                break;
+            case SET:
+                records.add(recordFactory.create(JsonAdaptedJournalRecord.OPERATION_SET, index,
+                        modification.getElements().get(0)));
+                break;
+            case REMOVE:
+                records.add(deletionRecordFactory.apply(index));
+                break;
+            default:
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the record of an entry being added at or set to an index of its list.
+     */
+    @FunctionalInterface
+    private interface RecordFactory<T> {
+        JsonAdaptedJournalRecord create(String op, int index, T item);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+
+/**
+ * Jackson-friendly version of a single change to the property or buyer list of an address book,
+ * as recorded in the journal of a {@link JournalAddressBookStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String LIST_PROPERTIES = "properties";
+    public static final String LIST_BUYERS = "buyers";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final String list;
+    private final int index;
+    private final JsonAdaptedProperty property;
+    private final JsonAdaptedBuyer buyer;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("list") String list,
+                                    @JsonProperty("index") int index,
+                                    @JsonProperty("property") JsonAdaptedProperty property,
+                                    @JsonProperty("buyer") JsonAdaptedBuyer buyer) {
+        this.op = op;
+        this.list = list;
+        this.index = index;
+        this.property = property;
+        this.buyer = buyer;
+    }
+
+    /**
+     * Returns a record of {@code property} being added at or set to {@code index} of the property list.
+     */
+    public static JsonAdaptedJournalRecord ofProperty(String op, int index, Property property) {
+        return new JsonAdaptedJournalRecord(op, LIST_PROPERTIES, index, new JsonAdaptedProperty(property), null);
+    }
+
+    /**
+     * Returns a record of {@code buyer} being added at or set to {@code index} of the buyer list.
+     */
+    public static JsonAdaptedJournalRecord ofBuyer(String op, int index, Buyer buyer) {
+        return new JsonAdaptedJournalRecord(op, LIST_BUYERS, index, null, new JsonAdaptedBuyer(buyer));
+    }
+
+    /**
+     * Returns a record of the property at {@code index} of the property list being deleted.
+     */
+    public static JsonAdaptedJournalRecord ofPropertyDeletion(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, LIST_PROPERTIES, index, null, null);
+    }
+
+    /**
+     * Returns a record of the buyer at {@code index} of the buyer list being deleted.
+     */
+    public static JsonAdaptedJournalRecord ofBuyerDeletion(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, LIST_BUYERS, index, null, null);
+    }
+
+    /**
+     * Applies this record to the given lists.
+     *
+     * @throws IllegalValueException if the record is malformed or does not fit the lists.
+     */
+    public void applyTo(List<Property> properties, List<Buyer> buyers) throws IllegalValueException {
+        if (op == null || list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing operation or list"));
+        }
+        switch (list) {
+        case LIST_PROPERTIES:
+            applyTo(properties, property == null ? null : property.toModelType());
+            break;
+        case LIST_BUYERS:
+            applyTo(buyers, buyer == null ? null : buyer.toModelType());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown list " + list));
+        }
+    }
+
+    private <T> void applyTo(List<T> items, T item) throws IllegalValueException {
+        switch (op) {
+        case OPERATION_ADD:
+            checkRecord(item != null && index >= 0 && index <= items.size());
+            items.add(index, item);
+            break;
+        case OPERATION_SET:
+            checkRecord(item != null && index >= 0 && index < items.size());
+            items.set(index, item);
+            break;
+        case OPERATION_DELETE:
+            checkRecord(index >= 0 && index < items.size());
+            items.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown operation " + op));
+        }
+    }
+
+    private void checkRecord(boolean condition) throws IllegalValueException {
+        if (!condition) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " at index " + index));
+        }
+    }
+}
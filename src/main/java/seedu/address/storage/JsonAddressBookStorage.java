@@ -3,16 +3,26 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -20,11 +30,23 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String PROPERTIES_FIELD = "properties";
+    private static final String BUYERS_FIELD = "buyers";
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is written without line breaks and indentation
+     * if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +60,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Properties and buyers are read from the file one at a time, and then converted in parallel.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +68,53 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    private static ReadOnlyAddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        List<JsonAdaptedProperty> properties = new ArrayList<>();
+        List<JsonAdaptedBuyer> buyers = new ArrayList<>();
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.equals(PROPERTIES_FIELD) && token != JsonToken.VALUE_NULL) {
+                expectToken(parser, token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    properties.add(parser.readValueAs(JsonAdaptedProperty.class));
+                }
+            } else if (fieldName.equals(BUYERS_FIELD) && token != JsonToken.VALUE_NULL) {
+                expectToken(parser, token, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    buyers.add(parser.readValueAs(JsonAdaptedBuyer.class));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return JsonSerializableAddressBook.toModelType(properties, buyers);
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +122,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Properties and buyers are converted and written to the file one at a time.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,7 +131,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isCompact)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(PROPERTIES_FIELD);
+            for (Property property : addressBook.getPropertyList()) {
+                generator.writeObject(new JsonAdaptedProperty(property));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(BUYERS_FIELD);
+            for (Buyer buyer : addressBook.getBuyerList()) {
+                generator.writeObject(new JsonAdaptedBuyer(buyer));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
     }
 
 }
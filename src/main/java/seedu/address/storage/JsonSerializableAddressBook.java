@@ -9,10 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.property.Buyer;
-import seedu.address.model.property.Property;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,9 +17,6 @@ import seedu.address.model.property.Property;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PROPERTY = "Property list contains duplicate property(s).";
-    public static final String MESSAGE_DUPLICATE_BUYER = "Buyer list contains duplicate buyer(s).";
-
     private final List<JsonAdaptedProperty> properties = new ArrayList<>();
     private final List<JsonAdaptedBuyer> buyers = new ArrayList<>();
 
@@ -47,28 +41,24 @@ class JsonSerializableAddressBook {
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into a snapshot of the model's properties and buyers.
+     * Properties and buyers are converted in parallel.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, naming every offending entry.
      */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedProperty jsonAdaptedProperty : properties) {
-            Property property = jsonAdaptedProperty.toModelType();
-            if (addressBook.hasProperty(property)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY);
-            }
-            addressBook.addProperty(property);
-        }
+    public ReadOnlyAddressBook toModelType() throws IllegalValueException {
+        return toModelType(properties, buyers);
+    }
 
-        for (JsonAdaptedBuyer jsonAdaptedBuyer : buyers) {
-            Buyer buyer = jsonAdaptedBuyer.toModelType();
-            if (addressBook.hasBuyer(buyer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BUYER);
-            }
-            addressBook.addBuyer(buyer);
-        }
-        return addressBook;
+    /**
+     * Converts the given adapted properties and buyers into a snapshot of the model's properties and buyers.
+     *
+     * @see #toModelType()
+     */
+    static ReadOnlyAddressBook toModelType(List<JsonAdaptedProperty> properties, List<JsonAdaptedBuyer> buyers)
+            throws IllegalValueException {
+        return ParallelAddressBookLoader.load(properties.size(), index -> properties.get(index).toModelType(),
+                buyers.size(), index -> buyers.get(index).toModelType());
     }
 
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Listable;
+import seedu.address.model.property.Property;
+
+/**
+ * Converts the stored records of an address book into its properties and buyers, converting and validating the
+ * records in parallel on the common fork-join pool.
+ * Every record is converted, so that all invalid records can be reported together, with their positions, instead of
+ * only the first.
+ */
+class ParallelAddressBookLoader {
+
+    public static final String PROPERTIES_NAME = "properties";
+    public static final String BUYERS_NAME = "buyers";
+    public static final String MESSAGE_INVALID_RECORD = "%s[%d]: %s";
+    public static final String MESSAGE_DUPLICATE_RECORD = "%s[%d]: has the same name as %s[%d]";
+
+    /** Number of records below which conversion is not split further across threads. */
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private ParallelAddressBookLoader() {}
+
+    /**
+     * Returns a snapshot of the {@code propertyCount} properties converted by {@code propertyConverter} and the
+     * {@code buyerCount} buyers converted by {@code buyerConverter}, in order.
+     * The converters are called from multiple threads at once. The records are validated, including against each
+     * other, but not indexed, so that only the {@code AddressBook} that finally adopts them builds its indexes.
+     *
+     * @throws IllegalValueException if any record is invalid, or has the same identity as an earlier record in its
+     *     list. Its message has one line per such record, naming its list and position.
+     */
+    public static AddressBookSnapshot load(int propertyCount, RecordConverter<Property> propertyConverter,
+            int buyerCount, RecordConverter<Buyer> buyerConverter) throws IllegalValueException {
+        requireNonNull(propertyConverter);
+        requireNonNull(buyerConverter);
+
+        List<String> errors = new ArrayList<>();
+        List<Property> properties = convertAll(PROPERTIES_NAME, propertyCount, propertyConverter, errors);
+        List<Buyer> buyers = convertAll(BUYERS_NAME, buyerCount, buyerConverter, errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
+        return AddressBookSnapshot.of(properties, buyers);
+    }
+
+    /**
+     * Returns the {@code count} records converted by {@code converter}, in order.
+     * The converter is called from multiple threads at once.
+     *
+     * @throws IllegalValueException if any record is invalid, or has the same identity as an earlier record.
+     *     Its message has one line per such record, naming {@code listName} and the record's position.
+     */
+    public static <T extends Listable> List<T> convertAll(String listName, int count, RecordConverter<T> converter)
+            throws IllegalValueException {
+        requireNonNull(converter);
+
+        List<String> errors = new ArrayList<>();
+        List<T> records = convertAll(listName, count, converter, errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return records;
+    }
+
+    /**
+     * Converts {@code count} records with {@code converter} in parallel, and returns them in order.
+     * Adds the errors found to {@code errors}, in order of position.
+     */
+    private static <T extends Listable> List<T> convertAll(String listName, int count, RecordConverter<T> converter,
+            List<String> errors) {
+        Object[] converted = new Object[count];
+        String[] conversionErrors = new String[count];
+        ConcurrentMap<Object, Integer> firstPositions = new ConcurrentHashMap<>();
+        ForkJoinPool.commonPool().invoke(new ConvertTask<>(converter, converted, conversionErrors,
+                firstPositions, 0, count));
+
+        List<T> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (conversionErrors[i] != null) {
+                errors.add(String.format(MESSAGE_INVALID_RECORD, listName, i, conversionErrors[i]));
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            T record = (T) converted[i];
+            int firstPosition = firstPositions.get(record.getListableKey());
+            if (firstPosition != i) {
+                errors.add(String.format(MESSAGE_DUPLICATE_RECORD, listName, i, listName, firstPosition));
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Converts the record at an index of a list of stored records.
+     */
+    @FunctionalInterface
+    interface RecordConverter<T> {
+        T convert(int index) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the records in {@code [start, end)}, splitting the range in half until it is small enough.
+     * Each task writes only to its own positions of {@code converted} and {@code errors}. The position of the
+     * earliest record with each identity is kept in {@code firstPositions}.
+     */
+    private static class ConvertTask<T extends Listable> extends RecursiveAction {
+        private final RecordConverter<T> converter;
+        private final Object[] converted;
+        private final String[] errors;
+        private final ConcurrentMap<Object, Integer> firstPositions;
+        private final int start;
+        private final int end;
+
+        ConvertTask(RecordConverter<T> converter, Object[] converted, String[] errors,
+                ConcurrentMap<Object, Integer> firstPositions, int start, int end) {
+            this.converter = converter;
+            this.converted = converted;
+            this.errors = errors;
+            this.firstPositions = firstPositions;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    convert(i);
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new ConvertTask<>(converter, converted, errors, firstPositions, start, middle),
+                    new ConvertTask<>(converter, converted, errors, firstPositions, middle, end));
+        }
+
+        private void convert(int index) {
+            try {
+                T record = converter.convert(index);
+                converted[index] = record;
+                firstPositions.merge(record.getListableKey(), index, Math::min);
+            } catch (IllegalValueException ive) {
+                errors[index] = ive.getMessage();
+            } catch (RuntimeException e) {
+                // A record missing a field fails the model's checks unchecked, but is as invalid as any other.
+                errors[index] = e.toString();
+            }
+        }
+    }
+}
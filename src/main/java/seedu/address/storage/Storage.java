@@ -1,16 +1,20 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
 
 /**
  * API of the Storage component
@@ -56,4 +60,52 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
         requireAllNonNull(file, addressBook);
         CsvManager.exportBuyers(addressBook.getBuyerList(), file);
     }
+
+    /**
+     * Starts exporting a copy of {@code properties} to the csv file on a background thread.
+     *
+     * @param properties cannot be null.
+     * @param file       cannot be null.
+     * @return the export, which can be followed and cancelled while it runs.
+     */
+    static CsvExportTask exportPropertiesInBackground(List<Property> properties, File file) {
+        return CsvExportTask.exportProperties(properties, file);
+    }
+
+    /**
+     * Starts exporting a copy of {@code buyers} to the csv file on a background thread.
+     *
+     * @param buyers cannot be null.
+     * @param file   cannot be null.
+     * @return the export, which can be followed and cancelled while it runs.
+     */
+    static CsvExportTask exportBuyersInBackground(List<Buyer> buyers, File file) {
+        return CsvExportTask.exportBuyers(buyers, file);
+    }
+
+    /**
+     * Imports the properties in the csv file.
+     *
+     * @param file cannot be null.
+     * @throws IOException if there was any problem reading from the file.
+     * @throws DataConversionException if the file does not hold valid properties.
+     * @see CsvManager#importProperties(File)
+     */
+    static List<Property> importProperties(File file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        return CsvManager.importProperties(file);
+    }
+
+    /**
+     * Imports the buyers in the csv file.
+     *
+     * @param file cannot be null.
+     * @throws IOException if there was any problem reading from the file.
+     * @throws DataConversionException if the file does not hold valid buyers.
+     * @see CsvManager#importBuyers(File)
+     */
+    static List<Buyer> importBuyers(File file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        return CsvManager.importBuyers(file);
+    }
 }
@@ -1,17 +1,18 @@
 package seedu.address.ui;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.Clipboard;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.logic.CommandExecution;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -20,25 +21,26 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
-    private final Queue<String> commandQueue;
+    private final ScriptExecutor scriptExecutor;
 
     @FXML
     private StackPane stackPane;
     private TextField commandTextField;
+    private CommandExecution runningCommand;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
-     * When multiple lines of commands are pasted into the box,
-     * pressing enter will execute the first command and autofill the next one.
-     * This continues until a different command is entered or all commands have been entered.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code ScriptExecutor}.
+     * When multiple lines of commands are pasted into the box, they are executed together as a script.
+     * While a command runs, the box shows that it is busy and takes no other command, and Escape cancels it.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, ScriptExecutor scriptExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.commandQueue = new LinkedList<>();
+        this.scriptExecutor = scriptExecutor;
         this.commandTextField = createCommandTextField();
         this.stackPane.getChildren().add(commandTextField);
     }
@@ -53,7 +55,7 @@ public class CommandBox extends UiPart<Region> {
                     return;
                 }
                 if (contents.trim().contains("\n")) {
-                    handleBatchCommands(contents);
+                    handleScriptPasted(contents);
                 } else {
                     super.paste();
                 }
@@ -61,17 +63,25 @@ public class CommandBox extends UiPart<Region> {
         };
         textField.setId("commandTextField");
         textField.setOnAction((e) -> handleCommandEntered());
+        textField.setOnKeyPressed(this::handleKeyPressed);
         textField.setPromptText("Enter command here...");
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         textField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         return textField;
     }
 
-    private void handleBatchCommands(String commands) {
-        commandQueue.clear();
-        commandQueue.addAll(List.of(commands.split("\\R"))); // Split by newlines
-        commandQueue.removeIf(String::isBlank); // Remove blank lines
-        updateCommandFieldFromQueue();
+    private void handleScriptPasted(String script) {
+        try {
+            scriptExecutor.execute(script).whenComplete((result, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    setStyleToIndicateCommandFailure();
+                } else {
+                    commandTextField.setText("");
+                }
+            }));
+        } catch (ParseException e) {
+            setStyleToIndicateCommandFailure();
+        }
     }
 
     /**
@@ -80,41 +90,56 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || runningCommand != null) {
             return;
         }
-        updateQueue(commandText);
         executeCommand(commandText);
-        updateCommandFieldFromQueue();
     }
 
-    private void updateQueue(String commandText) {
-        if (commandText.equals(commandQueue.peek())) {
-            // User entered pasted command
-            commandQueue.poll();
-        } else {
-            // User entered different command
-            commandQueue.clear();
+    /**
+     * Cancels the running command when Escape is pressed.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE && runningCommand != null) {
+            runningCommand.cancel();
+            event.consume();
         }
     }
 
     private void executeCommand(String commandText) {
         try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+            CommandExecution execution = commandExecutor.execute(commandText);
+            setRunningCommand(execution);
+            execution.getResult().whenComplete((result, error) -> Platform.runLater(() -> {
+                setRunningCommand(null);
+                // The user may have started typing the next command while this one ran.
+                if (!commandTextField.getText().equals(commandText)) {
+                    return;
+                }
+                if (error != null) {
+                    setStyleToIndicateCommandFailure();
+                } else {
+                    commandTextField.setText("");
+                }
+            }));
+        } catch (ParseException e) {
             setStyleToIndicateCommandFailure();
         }
     }
 
-    private void updateCommandFieldFromQueue() {
-        if (!commandQueue.isEmpty()) {
-            commandTextField.setText(commandQueue.peek());
-            commandTextField.end(); // Moves caret to end
+    /**
+     * Sets the command that is running, or null if none is, and the style that shows whether the box is busy.
+     */
+    private void setRunningCommand(CommandExecution execution) {
+        runningCommand = execution;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (execution == null) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
-
     /**
      * Sets the command box style to use the default style.
      */
@@ -141,11 +166,24 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its execution, which ends once the command has run.
+         *
+         * @see seedu.address.logic.ModelWriter#execute(seedu.address.logic.commands.ParsedCommand, java.io.File)
+         */
+        CommandExecution execute(String commandText) throws ParseException;
+    }
+
+    /**
+     * Represents a function that can execute scripts of several commands.
+     */
+    @FunctionalInterface
+    public interface ScriptExecutor {
+        /**
+         * Starts executing the script and returns a future completed with the result of having started it.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.ModelWriter#executeScript(java.util.List)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String script) throws ParseException;
     }
 
 }
@@ -2,8 +2,12 @@ package seedu.address.ui;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,14 +17,19 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandExecution;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ModelWriter;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandPreAction;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ParsedCommand;
 import seedu.address.logic.commands.UiAction;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -30,16 +39,20 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    /** How long a command may run before it is shown in the status bar, so that quick commands do not flicker. */
+    private static final Duration SLOW_COMMAND_DELAY = Duration.millis(300);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private ModelWriter modelWriter;
 
     // Independent Ui parts residing in this Ui container
     private PropertyListPanel propertyListPanel;
     private BuyerListPanel buyerListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -61,14 +74,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are executed, and
+     * whose lists are shown, by {@code modelWriter}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, ModelWriter modelWriter) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.modelWriter = modelWriter;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -121,19 +136,21 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        propertyListPanel = new PropertyListPanel(logic.getFilteredPropertyList());
+        propertyListPanel = new PropertyListPanel(modelWriter.getShownPropertyList(),
+                modelWriter::getShownMatchingBuyerCount, modelWriter.getShownMatchCounts());
         propertyListPanelPlaceholder.getChildren().add(propertyListPanel.getRoot());
 
-        buyerListPanel = new BuyerListPanel(logic.getFilteredBuyerList());
+        buyerListPanel = new BuyerListPanel(modelWriter.getShownBuyerList());
         buyerListPanelPlaceholder.getChildren().add(buyerListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::executeScript);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -180,6 +197,30 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Imports Properties.
+     */
+    @FXML
+    public void handleImportProperties() {
+        try {
+            executeCommand(ImportCommand.COMMAND_WORD + " " + ImportCommand.PROPERTIES);
+        } catch (ParseException e) {
+            logger.warning("handleImportProperties failed!");
+        }
+    }
+
+    /**
+     * Imports Buyers.
+     */
+    @FXML
+    public void handleImportBuyers() {
+        try {
+            executeCommand(ImportCommand.COMMAND_WORD + " " + ImportCommand.BUYERS);
+        } catch (ParseException e) {
+            logger.warning("handleImportBuyers failed!");
+        }
+    }
+
     /**
      * Exports Properties.
      */
@@ -187,7 +228,7 @@ public class MainWindow extends UiPart<Stage> {
     public void handleExportProperties() {
         try {
             executeCommand(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES);
-        } catch (CommandException | ParseException e) {
+        } catch (ParseException e) {
             logger.warning("handleExportProperties failed!");
         }
     }
@@ -199,7 +240,7 @@ public class MainWindow extends UiPart<Stage> {
     public void handleExportBuyers() {
         try {
             executeCommand(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS);
-        } catch (CommandException | ParseException e) {
+        } catch (ParseException e) {
             logger.warning("handleExportBuyers failed!");
         }
     }
@@ -225,40 +266,110 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the progress of {@code task} in the status bar, and its feedback once it ends.
+     */
+    private void followBackgroundTask(BackgroundTask task) {
+        statusBarFooter.showTask(task);
+        task.getFeedback().thenAccept(feedback -> Platform.runLater(() -> {
+            logger.info("Background result: " + feedback);
+            resultDisplay.setFeedbackToUser(feedback);
+        }));
+    }
+
+    /**
+     * Starts executing the command on the model writer, and shows its result once it ends. The command is shown in
+     * the status bar, where it can be cancelled, if it is still running after a moment.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @return the execution of the command.
+     * @throws ParseException If the command is invalid, in which case it is not executed.
+     * @see ModelWriter#execute(ParsedCommand, File)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CommandExecution executeCommand(String commandText) throws ParseException {
+        ParsedCommand parsedCommand;
         try {
-            CommandResult commandResult;
-            CommandPreAction commandPreAction = logic.getCommandPreAction(commandText);
-            if (commandPreAction.requiresFile()) {
-                File file = getCsvFile(commandPreAction.getFileDialogPrompt(), commandPreAction.isFileSave());
-                commandResult = logic.execute(commandText, file);
-            } else {
-                commandResult = logic.execute(commandText);
+            // Parsing does not read the model, so it is safe here while the writer's thread modifies it.
+            parsedCommand = logic.parse(commandText);
+        } catch (ParseException e) {
+            logger.info("Invalid command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            throw e;
+        }
+
+        CommandPreAction commandPreAction = parsedCommand.getPreAction();
+        File file = null;
+        if (commandPreAction.requiresFile()) {
+            file = getCsvFile(commandPreAction.getFileDialogPrompt(), commandPreAction.isFileSave());
+        }
+        CommandExecution execution = modelWriter.execute(parsedCommand, file);
+
+        PauseTransition slowCommandDelay = new PauseTransition(SLOW_COMMAND_DELAY);
+        slowCommandDelay.setOnFinished(unused -> {
+            if (!execution.getResult().isDone()) {
+                statusBarFooter.showTask(execution);
             }
-            // Perform post command UI actions
-            UiAction uiAction = commandResult.getUiAction();
-            switch (uiAction) {
-            case HELP:
-                handleHelp();
-                break;
-            case EXIT:
-                handleExit();
-                break;
-            default:
-                break;
+        });
+        slowCommandDelay.play();
+        execution.getResult().whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            slowCommandDelay.stop();
+            if (error != null) {
+                logger.info("Failed command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
             }
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            handleCommandResult(commandResult);
+        }));
+        return execution;
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+    /**
+     * Performs the user interface actions of a command that has ended, and shows its feedback.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        UiAction uiAction = commandResult.getUiAction();
+        switch (uiAction) {
+        case HELP:
+            handleHelp();
+            break;
+        case EXIT:
+            handleExit();
+            break;
+        default:
+            break;
+        }
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        commandResult.getBackgroundTask().ifPresent(this::followBackgroundTask);
+    }
+
+    /**
+     * Starts executing the commands of a script on the model writer, whose progress and feedback are then shown as
+     * a background task.
+     *
+     * @return a future completed with the result of having started the script.
+     * @throws ParseException If any line of the script is invalid, in which case none of them are executed.
+     * @see ModelWriter#executeScript(java.util.List)
+     */
+    private CompletableFuture<CommandResult> executeScript(String script) throws ParseException {
+        List<ParsedCommand> parsedScript;
+        try {
+            parsedScript = logic.parseScript(script);
+        } catch (ParseException e) {
+            logger.info("Invalid script: " + e.getMessage());
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
+
+        CompletableFuture<CommandResult> result = modelWriter.executeScript(parsedScript);
+        result.whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.info("Failed script: " + error.getMessage());
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+            logger.info("Result: " + commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(this::followBackgroundTask);
+        }));
+        return result;
     }
 }
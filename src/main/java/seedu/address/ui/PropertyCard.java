@@ -44,11 +44,13 @@ public class PropertyCard extends UiPart<Region> {
     private Label price;
     @FXML
     private Label seller;
+    @FXML
+    private Label matchingBuyers;
 
     /**
-     * Creates a {@code PropertyCard} with the given {@code Property} and index to display.
+     * Creates a {@code PropertyCard} with the given {@code Property}, index and number of matching buyers to display.
      */
-    public PropertyCard(Property property, int displayedIndex) {
+    public PropertyCard(Property property, int displayedIndex, int matchingBuyerCount) {
         super(FXML);
         this.property = property;
         id.setText(displayedIndex + ". ");
@@ -58,6 +60,7 @@ public class PropertyCard extends UiPart<Region> {
         phone.setText(property.getSeller().getPhone().value);
         address.setText(property.getAddress().value);
         email.setText(property.getSeller().getEmail().value);
+        matchingBuyers.setText(matchingBuyerCount + (matchingBuyerCount == 1 ? " matching buyer" : " matching buyers"));
         property.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
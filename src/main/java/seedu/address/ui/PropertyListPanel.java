@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,13 +22,20 @@ public class PropertyListPanel extends UiPart<Region> {
     @FXML
     private ListView<Property> propertyListView;
 
+    private final ToIntFunction<Property> matchingBuyerCount;
+
     /**
      * Creates a {@code PropertyListPanel} with the given {@code ObservableList}.
+     * Each property is shown with its number of matching buyers given by {@code matchingBuyerCount}, and the
+     * displayed counts are refreshed whenever {@code matchTable} is invalidated.
      */
-    public PropertyListPanel(ObservableList<Property> propertyList) {
+    public PropertyListPanel(ObservableList<Property> propertyList, ToIntFunction<Property> matchingBuyerCount,
+            Observable matchTable) {
         super(FXML);
+        this.matchingBuyerCount = matchingBuyerCount;
         propertyListView.setItems(propertyList);
         propertyListView.setCellFactory(listView -> new PropertyListViewCell());
+        matchTable.addListener(unused -> propertyListView.refresh());
     }
 
     /**
@@ -41,7 +50,8 @@ public class PropertyListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PropertyCard(property, getIndex() + 1).getRoot());
+                setGraphic(new PropertyCard(property, getIndex() + 1,
+                        matchingBuyerCount.applyAsInt(property)).getRoot());
             }
         }
     }
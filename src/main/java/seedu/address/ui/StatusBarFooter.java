@@ -1,28 +1,99 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.logic.commands.BackgroundTask;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * While a background task runs, the status bar also shows its progress and lets the user cancel it.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final Duration PROGRESS_REFRESH_INTERVAL = Duration.millis(100);
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox taskStatusBar;
+
+    @FXML
+    private Label taskStatus;
+
+    @FXML
+    private ProgressBar taskProgress;
+
+    private BackgroundTask shownTask;
+    private Timeline progressRefresher;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setTaskStatusBarVisible(false);
+    }
+
+    /**
+     * Shows the progress of {@code task} until it ends, in place of any task shown before.
+     */
+    public void showTask(BackgroundTask task) {
+        requireNonNull(task);
+        stopShowingTask();
+
+        shownTask = task;
+        taskStatus.setText(task.getDescription());
+        taskProgress.setProgress(task.getProgress());
+        setTaskStatusBarVisible(true);
+        progressRefresher = new Timeline(new KeyFrame(PROGRESS_REFRESH_INTERVAL, unused ->
+                taskProgress.setProgress(task.getProgress())));
+        progressRefresher.setCycleCount(Animation.INDEFINITE);
+        progressRefresher.play();
+
+        task.getFeedback().whenComplete((feedback, error) -> Platform.runLater(() -> {
+            if (shownTask == task) {
+                stopShowingTask();
+            }
+        }));
     }
 
+    /**
+     * Cancels the task being shown.
+     */
+    @FXML
+    private void handleCancelTask() {
+        if (shownTask != null) {
+            shownTask.cancel();
+        }
+    }
+
+    private void stopShowingTask() {
+        if (progressRefresher != null) {
+            progressRefresher.stop();
+        }
+        shownTask = null;
+        progressRefresher = null;
+        setTaskStatusBarVisible(false);
+    }
+
+    private void setTaskStatusBarVisible(boolean isVisible) {
+        taskStatusBar.setVisible(isVisible);
+        taskStatusBar.setManaged(isVisible);
+    }
 }
@@ -11,6 +11,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ModelWriter;
 
 /**
  * The manager of the UI component.
@@ -23,14 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private ModelWriter modelWriter;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are executed by {@code modelWriter}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, ModelWriter modelWriter) {
         super();
         this.logic = logic;
+        this.modelWriter = modelWriter;
     }
 
     @Override
@@ -41,7 +44,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, modelWriter);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
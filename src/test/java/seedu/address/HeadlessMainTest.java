@@ -0,0 +1,76 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_FILE_COMMAND_WITHOUT_UI;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validAndInvalidCommands_printsFeedbackAndCountsFailures() throws Exception {
+        String exportCommand = ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS;
+        String input = ListCommand.COMMAND_WORD + "\n\nunknown\n" + exportCommand + "\n" + ListCommand.COMMAND_WORD;
+
+        assertEquals(2, run(input));
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ListCommand.MESSAGE_SUCCESS), out.toString());
+        assertEquals(lines("unknown: " + MESSAGE_UNKNOWN_COMMAND,
+                exportCommand + ": " + MESSAGE_FILE_COMMAND_WITHOUT_UI), err.toString());
+    }
+
+    @Test
+    public void run_exitCommand_ignoresLaterCommands() throws Exception {
+        String input = ExitCommand.COMMAND_WORD + "\nunknown";
+
+        assertEquals(0, run(input));
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    private int run(String input) throws Exception {
+        return HeadlessMain.run(logic, new BufferedReader(new StringReader(input)), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
@@ -72,6 +72,7 @@ public class SystemTest {
     }
 
     private void assertDataRestored(Logic originalLogic) {
+        originalLogic.flush();
         ReadOnlyAddressBook original = originalLogic.getAddressBook();
         ReadOnlyAddressBook restored = createApp().getAddressBook();
         assertEquals(original, restored);
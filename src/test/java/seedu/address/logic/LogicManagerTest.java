@@ -1,34 +1,54 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.LogicManager.COMMANDTEXT_INVALID_MESSAGE;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_PROPERTY;
 import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.SELLER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SELLER_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalProperties.P_AMY;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ParsedCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.property.AddPropertyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -36,6 +56,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.property.Property;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PropertyBuilder;
 
@@ -45,6 +66,12 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SELLER_DESC_AMY + PRICE_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
+            + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + SELLER_DESC_BOB + PRICE_DESC_BOB;
+    private static final String DELETE_NINTH = "delete property 9";
+
     private Model model = new ModelManager();
     private Logic logic;
 
@@ -76,24 +103,53 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+    public void execute_storageThrowsIoException_reportsFailureAsynchronously() throws Exception {
+        List<String> failureMessages = useIoExceptionThrowingStorage();
 
-        // Execute add command
+        // Execute add command, which succeeds without waiting for the save
         String addCommand = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
                 + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY + SELLER_DESC_AMY + PRICE_DESC_AMY;
         Property expectedProperty = new PropertyBuilder(P_AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addProperty(expectedProperty);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddPropertyCommand.MESSAGE_SUCCESS, expectedProperty),
+                expectedModel);
+
+        // The save failure is reported once the save has been attempted, and again when flushing retries it
+        logic.flush();
+        String failureMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertEquals(List.of(failureMessage, failureMessage), failureMessages);
+    }
+
+    @Test
+    public void execute_saveFailedOnce_retriedUntilSaved() throws Exception {
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (failuresLeft.getAndDecrement() > 0) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(ADD_AMY);
+        logic.flush();
+        assertEquals(model.getAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        List<String> failureMessages = useIoExceptionThrowingStorage();
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        logic.flush();
+        assertEquals(List.of(), failureMessages);
     }
 
     @Test
@@ -116,15 +172,172 @@ public class LogicManagerTest {
         String commandText = ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS;
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         CommandResult result = logic.execute(commandText, temporaryFolder.resolve("TempBuyers.csv").toFile());
-        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, ExportCommand.BUYERS), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 0, ExportCommand.BUYERS), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, ExportCommand.BUYERS),
+                result.getBackgroundTask().get().getFeedback().get());
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void executeWithFile_import_addsAndSavesProperties() throws Exception {
+        File file = temporaryFolder.resolve("TempProperties.csv").toFile();
+        Storage.exportProperties(getTypicalAddressBook(), file);
+        String commandText = ImportCommand.COMMAND_WORD + " " + ImportCommand.PROPERTIES;
+
+        CommandResult result = logic.execute(commandText, file);
+        int propertyCount = getTypicalAddressBook().getPropertyList().size();
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, propertyCount, ImportCommand.PROPERTIES, 0),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPropertyList(), model.getAddressBook().getPropertyList());
+
+        logic.flush();
+        JsonAddressBookStorage savedStorage = new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json"));
+        assertEquals(model.getAddressBook(), new AddressBook(savedStorage.readAddressBook().get()));
+
+        // importing the same file again skips every property
+        result = logic.execute(commandText, file);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 0, ImportCommand.PROPERTIES, propertyCount),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_cancelledWhileRunning_rolledBack() throws Exception {
+        assertThrows(CommandException.class, LogicManager.COMMAND_CANCELLED_MESSAGE, () ->
+                logic.execute(logic.parse(ADD_AMY), null, () -> true));
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void executeScript_allCommandsSucceed_undoneAsOneStep() throws Exception {
+        CommandResult result = logic.executeScript(logic.parseScript(ADD_AMY + "\n" + ADD_BOB), Runnable::run);
+        assertEquals(String.format(ScriptExecution.MESSAGE_SUCCESS, 2),
+                result.getBackgroundTask().get().getFeedback().get());
+        assertEquals(2, model.getAddressBook().getPropertyList().size());
+
+        model.undo();
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+    }
+
+    @Test
+    public void executeScript_commandFailsWithRollback_nothingChanged() throws Exception {
+        CommandResult result = logic.executeScript(logic.parseScript(ADD_AMY + "\n" + DELETE_NINTH + "\n" + ADD_BOB),
+                Runnable::run);
+        String failure = String.format(ScriptExecution.MESSAGE_COMMAND_FAILED, DELETE_NINTH,
+                MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        assertEquals(String.format(ScriptExecution.MESSAGE_ROLLED_BACK, failure),
+                result.getBackgroundTask().get().getFeedback().get());
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void executeScript_commandFailsWithoutRollback_otherCommandsKept() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRollbackScriptOnFailure(false);
+        model.setUserPrefs(userPrefs);
+
+        CommandResult result = logic.executeScript(logic.parseScript(ADD_AMY + "\n" + DELETE_NINTH + "\n" + ADD_BOB),
+                Runnable::run);
+        String failure = String.format(ScriptExecution.MESSAGE_COMMAND_FAILED, DELETE_NINTH,
+                MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+        assertEquals(String.format(ScriptExecution.MESSAGE_PARTIAL_SUCCESS, 2, 3, failure),
+                result.getBackgroundTask().get().getFeedback().get());
+        assertEquals(2, model.getAddressBook().getPropertyList().size());
+    }
+
+    @Test
+    public void executeScript_commandThrowsUnexpectedly_nothingChanged() throws Exception {
+        Command throwingCommand = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                throw new IllegalStateException("unexpected");
+            }
+
+            @Override
+            public boolean isMutating() {
+                return true;
+            }
+        };
+        List<ParsedCommand> script = List.of(logic.parseScript(ADD_AMY).get(0),
+                new ParsedCommand("throw", throwingCommand));
+
+        assertThrows(IllegalStateException.class, () -> logic.executeScript(script, Runnable::run));
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+        assertFalse(model.canUndo());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void executeScript_whileRunning_rejectsOtherCommandsUntilCancelled() throws Exception {
+        Queue<Runnable> pendingWork = new ArrayDeque<>();
+        CommandResult result = logic.executeScript(logic.parseScript(ADD_AMY + "\n" + ADD_BOB), pendingWork::add);
+        BackgroundTask script = result.getBackgroundTask().get();
+        assertEquals(0.0, script.getProgress());
+        assertThrows(CommandException.class, LogicManager.SCRIPT_RUNNING_MESSAGE, () ->
+                logic.execute(ListCommand.COMMAND_WORD));
+        assertThrows(CommandException.class, LogicManager.SCRIPT_RUNNING_MESSAGE, () ->
+                logic.executeScript(logic.parseScript(ADD_AMY + "\n" + ADD_BOB), pendingWork::add));
+
+        script.cancel();
+        while (!pendingWork.isEmpty()) {
+            pendingWork.poll().run();
+        }
+        assertEquals(ScriptExecution.MESSAGE_CANCELLED, script.getFeedback().get());
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void executeSavingOnce_severalModifyingCommands_savedOnceAfterAll() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.executeSavingOnce(() -> {
+            try {
+                logic.execute(ADD_AMY);
+                logic.flush();
+                assertEquals(0, saveCount.get());
+                logic.execute(ADD_BOB);
+            } catch (CommandException | ParseException e) {
+                throw new AssertionError("Execution of command should not fail.", e);
+            }
+        });
+        logic.flush();
+        assertEquals(1, saveCount.get());
+        assertEquals(2, model.getAddressBook().getPropertyList().size());
+    }
+
     @Test
     public void getFilteredPropertyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPropertyList().remove(0));
     }
 
+    /**
+     * Replaces {@code logic} with one whose address book storage always fails to save.
+     * Returns the list that the save failure messages are added to.
+     */
+    private List<String> useIoExceptionThrowingStorage() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+        List<String> failureMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+        return failureMessages;
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,169 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_PROPERTY;
+import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.SELLER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SELLER_DESC_BOB;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ModelWriterTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SELLER_DESC_AMY + PRICE_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
+            + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + SELLER_DESC_BOB + PRICE_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final Queue<Runnable> uiWork = new ConcurrentLinkedQueue<>();
+    private Logic logic;
+    private ModelWriter modelWriter;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        modelWriter = new ModelWriter(logic, uiWork::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        modelWriter.stop();
+    }
+
+    @Test
+    public void execute_severalCommandsBeforeShown_shownOnce() throws Exception {
+        modelWriter.execute(logic.parse(ADD_AMY), null);
+        modelWriter.execute(logic.parse(ADD_BOB), null).getResult().get();
+        modelWriter.stop();
+        assertEquals(List.of(), modelWriter.getShownPropertyList());
+
+        assertEquals(1, uiWork.size());
+        uiWork.poll().run();
+        assertEquals(model.getFilteredPropertyList(), modelWriter.getShownPropertyList());
+        assertEquals(0, modelWriter.getShownMatchingBuyerCount(model.getFilteredPropertyList().get(0)));
+    }
+
+    @Test
+    public void execute_modelChanged_changesAndCountsShown() throws Exception {
+        AtomicInteger countInvalidations = new AtomicInteger();
+        modelWriter.getShownMatchCounts().addListener(unused -> countInvalidations.incrementAndGet());
+
+        modelWriter.execute(() -> {
+            model.addProperty(P_ALICE);
+            model.addProperty(P_BENSON);
+            model.addProperty(P_CARL);
+        });
+        showPublished();
+        assertEquals(List.of(P_ALICE, P_BENSON, P_CARL), modelWriter.getShownPropertyList());
+        assertEquals(0, modelWriter.getShownMatchingBuyerCount(P_ALICE));
+        assertEquals(1, countInvalidations.get());
+
+        // Only the count of the property matched by the new buyer changes
+        modelWriter.execute(() -> model.addBuyer(B_BENSON));
+        showPublished();
+        assertEquals(List.of(B_BENSON), modelWriter.getShownBuyerList());
+        assertEquals(1, modelWriter.getShownMatchingBuyerCount(P_ALICE));
+        assertEquals(2, countInvalidations.get());
+
+        modelWriter.execute(() -> model.deleteProperty(P_BENSON));
+        showPublished();
+        assertEquals(List.of(P_ALICE, P_CARL), modelWriter.getShownPropertyList());
+
+        // The counts of properties filtered out are no longer shown
+        modelWriter.execute(() -> model.updateFilteredPropertyList(property -> property.equals(P_CARL)));
+        showPublished();
+        assertEquals(List.of(P_CARL), modelWriter.getShownPropertyList());
+        assertEquals(0, modelWriter.getShownMatchingBuyerCount(P_ALICE));
+    }
+
+    @Test
+    public void constructor_modelNotEmpty_filledByFirstChangesShown() throws Exception {
+        modelWriter.stop();
+        model.addProperty(P_ALICE);
+        model.addBuyer(B_BENSON);
+        modelWriter = new ModelWriter(logic, uiWork::add);
+        assertEquals(List.of(), modelWriter.getShownPropertyList());
+
+        showPublished();
+        assertEquals(List.of(P_ALICE), modelWriter.getShownPropertyList());
+        assertEquals(List.of(B_BENSON), modelWriter.getShownBuyerList());
+        assertEquals(1, modelWriter.getShownMatchingBuyerCount(P_ALICE));
+    }
+
+    @Test
+    public void execute_cancelledBeforeRunning_notRun() throws Exception {
+        CountDownLatch isWriterBlocked = new CountDownLatch(1);
+        modelWriter.execute(() -> {
+            try {
+                isWriterBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        CommandExecution execution = modelWriter.execute(logic.parse(ADD_AMY), null);
+        execution.cancel();
+        isWriterBlocked.countDown();
+
+        assertEquals(LogicManager.COMMAND_CANCELLED_MESSAGE, execution.getFeedback().get());
+        assertTrue(execution.getResult().isCompletedExceptionally());
+        execution.getResult().exceptionally(error -> {
+            assertTrue(error instanceof CommandException);
+            return null;
+        });
+        modelWriter.stop();
+        assertEquals(List.of(), model.getAddressBook().getPropertyList());
+        assertTrue(uiWork.isEmpty());
+    }
+
+    /**
+     * Waits for the tasks submitted to the writer so far to run, and then shows what they published.
+     */
+    private void showPublished() throws Exception {
+        CompletableFuture<Void> isRun = new CompletableFuture<>();
+        modelWriter.execute(() -> isRun.complete(null));
+        isRun.get();
+        for (Runnable work = uiWork.poll(); work != null; work = uiWork.poll()) {
+            work.run();
+        }
+    }
+}
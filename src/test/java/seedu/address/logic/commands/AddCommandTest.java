@@ -9,10 +9,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -21,10 +26,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.field.SortDirection;
 import seedu.address.model.field.SortType;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PropertyBuilder;
 
 public class AddCommandTest {
@@ -119,6 +126,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addProperties(List<Property> properties) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -129,6 +141,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isBatching() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitUndoStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackUndoStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasProperty(Property property) {
             throw new AssertionError("This method should not be called.");
@@ -144,6 +211,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Property> getPropertyNamePredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Property> getPropertyTagsPredicate(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Property> getPropertyPricePredicate(PriceRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Property> getMatchingProperties(Buyer buyer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Buyer, List<Property>> getAllMatches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getMatchingBuyerCount(Property property) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMatchingBuyerCountListener(Consumer<Property> listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Observable getMatchTable() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Property> getFilteredPropertyList() {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +281,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addBuyers(List<Buyer> buyers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setBuyer(Buyer target, Buyer editedBuyer) {
             throw new AssertionError("This method should not be called.");
@@ -8,6 +8,9 @@ import static seedu.address.logic.commands.CommandTestUtil.showPropertyAtIndex;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROPERTY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PROPERTY;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PROPERTY;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -77,6 +80,31 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        Property firstProperty = model.getFilteredPropertyList().get(INDEX_FIRST_PROPERTY.getZeroBased());
+        Property thirdProperty = model.getFilteredPropertyList().get(INDEX_THIRD_PROPERTY.getZeroBased());
+        DeleteCommand deleteCommand = new DeletePropertyCommand(
+                Arrays.asList(INDEX_FIRST_PROPERTY, INDEX_THIRD_PROPERTY, INDEX_FIRST_PROPERTY));
+
+        String expectedMessage = String.format(DeletePropertyCommand.MESSAGE_DELETE_PROPERTIES_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteProperty(firstProperty);
+        expectedModel.deleteProperty(thirdProperty);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertFalse(model.isBatching());
+    }
+
+    @Test
+    public void execute_multipleIndexesOneInvalid_nothingDeleted() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPropertyList().size() + 1);
+        DeleteCommand deleteCommand = new DeletePropertyCommand(Arrays.asList(INDEX_FIRST_PROPERTY, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeletePropertyCommand(INDEX_FIRST_PROPERTY);
@@ -97,6 +125,13 @@ public class DeleteCommandTest {
 
         // different property -> returns false
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // same single index given as a list -> returns true
+        assertTrue(deleteFirstCommand.equals(new DeletePropertyCommand(Arrays.asList(INDEX_FIRST_PROPERTY))));
+
+        // more indexes -> returns false
+        assertFalse(deleteFirstCommand.equals(
+                new DeletePropertyCommand(Arrays.asList(INDEX_FIRST_PROPERTY, INDEX_SECOND_PROPERTY))));
     }
 
     /**
@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalProperties.P_FIONA;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Disabled;
@@ -25,7 +26,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.field.ContainsTagsPredicate;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.Price;
+import seedu.address.model.field.PriceRange;
+import seedu.address.model.property.Property;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PropertyBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -84,6 +89,15 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(P_CARL, P_ELLE, P_FIONA), model.getFilteredPropertyList());
     }
 
+    @Test
+    public void execute_keywordsThenEditMatchingProperty_editedPropertyStillListed() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz");
+        new FindCommand(predicate).execute(model);
+        Property editedCarl = new PropertyBuilder(P_CARL).withPhone("91234567").build();
+        model.setProperty(P_CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl), model.getFilteredPropertyList());
+    }
+
     @Test
     public void execute_tags_noPropertiesFound() {
         String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 0);
@@ -112,6 +126,28 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(P_ALICE, P_BENSON), model.getFilteredPropertyList());
     }
 
+    @Test
+    public void execute_priceRange_propertiesWithinRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 2);
+        PriceRange priceRange = new PriceRange(Optional.of(new Price("300000")), Optional.of(new Price("460000")));
+        FindCommand command = new FindCommand(new NameContainsKeywordsPredicate(), new ContainsTagsPredicate(),
+                priceRange);
+        expectedModel.updateFilteredPropertyList(property -> priceRange.contains(property.getPrice().value));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(P_ELLE, P_FIONA), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_priceRangeAndTags_propertiesMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PROPERTIES_LISTED_OVERVIEW, 2);
+        PriceRange priceRange = new PriceRange(Optional.of(new Price("654321")), Optional.empty());
+        ContainsTagsPredicate tagsPredicate = new ContainsTagsPredicate(Set.of(new Tag("condo")));
+        FindCommand command = new FindCommand(new NameContainsKeywordsPredicate(), tagsPredicate, priceRange);
+        expectedModel.updateFilteredPropertyList(tagsPredicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(P_ALICE, P_BENSON), model.getFilteredPropertyList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+import static seedu.address.testutil.TypicalBuyers.B_DANIEL;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROPERTY;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PROPERTY;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MatchCommand}.
+ */
+public class MatchCommandTest {
+    private Model model = new ModelManager(getAddressBookWithBuyers(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBookWithBuyers(), new UserPrefs());
+
+    @Test
+    public void execute_allBuyers_listsBuyersWithMatchesAndMatchedProperties() {
+        String expectedMessage = String.format(Messages.MESSAGE_MATCHES_LISTED_OVERVIEW, 2,
+                getTypicalProperties().size());
+        expectedModel.updateFilteredBuyerList(buyer -> buyer != B_DANIEL);
+        assertCommandSuccess(new MatchCommand(), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(B_BENSON, B_CARL), model.getFilteredBuyerList());
+        assertEquals(getTypicalProperties(), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_validBuyerIndex_listsMatchingProperties() {
+        String expectedMessage = String.format(Messages.MESSAGE_BUYER_MATCHES_LISTED_OVERVIEW, 1,
+                B_BENSON.getName());
+        expectedModel.updateFilteredPropertyList(property -> property == P_ALICE);
+        assertCommandSuccess(new MatchCommand(INDEX_FIRST_PROPERTY), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(P_ALICE), model.getFilteredPropertyList());
+    }
+
+    @Test
+    public void execute_invalidBuyerIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredBuyerList().size() + 1);
+        assertCommandFailure(new MatchCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_BUYER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand matchAll = new MatchCommand();
+        MatchCommand matchFirst = new MatchCommand(INDEX_FIRST_PROPERTY);
+
+        assertTrue(matchAll.equals(new MatchCommand()));
+        assertTrue(matchFirst.equals(new MatchCommand(INDEX_FIRST_PROPERTY)));
+        assertFalse(matchAll.equals(matchFirst));
+        assertFalse(matchFirst.equals(new MatchCommand(INDEX_SECOND_PROPERTY)));
+        assertFalse(matchFirst.equals(null));
+        assertFalse(matchFirst.equals(1));
+    }
+
+    private static AddressBook getAddressBookWithBuyers() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addBuyer(B_BENSON);
+        addressBook.addBuyer(B_CARL);
+        addressBook.addBuyer(B_DANIEL);
+        return addressBook;
+    }
+}
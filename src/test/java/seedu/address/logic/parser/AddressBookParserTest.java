@@ -7,6 +7,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_PROPERTY;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ACTOR;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_PREAMBLE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROPERTY;
 
@@ -24,13 +25,20 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.ParsedCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.buyer.ExportBuyersCommand;
+import seedu.address.logic.commands.buyer.ImportBuyersCommand;
 import seedu.address.logic.commands.property.AddPropertyCommand;
 import seedu.address.logic.commands.property.DeletePropertyCommand;
 import seedu.address.logic.commands.property.EditPropertyCommand;
 import seedu.address.logic.commands.property.EditPropertyCommand.EditPropertyDescriptor;
 import seedu.address.logic.commands.property.ExportPropertiesCommand;
+import seedu.address.logic.commands.property.ImportPropertiesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
 import seedu.address.model.property.Property;
@@ -98,6 +106,25 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_match() throws Exception {
+        assertEquals(new MatchCommand(), parser.parseCommand(MatchCommand.COMMAND_WORD));
+        assertEquals(new MatchCommand(INDEX_FIRST_PROPERTY),
+                parser.parseCommand(MatchCommand.COMMAND_WORD + " " + INDEX_FIRST_PROPERTY.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -131,24 +158,79 @@ public class AddressBookParserTest {
                 .get() instanceof ExportPropertiesCommand);
         assertTrue(parser.parseCommandWithFile(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS)
                 .get() instanceof ExportBuyersCommand);
+        assertEquals(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES + " " + ExportCommand.FILTERED,
+                parser.parseCommandWithFile(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES + " "
+                        + ExportCommand.FILTERED).get().toString());
+        assertThrows(ParseException.class, MESSAGE_INVALID_PREAMBLE, () ->
+                parser.parseCommandWithFile(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS + " all"));
     }
 
+    @Test
+    public void parseCommandWithFile_import() throws Exception {
+        assertThrows(ParseException.class, MESSAGE_INVALID_ACTOR, () ->
+                parser.parseCommandWithFile(ImportCommand.COMMAND_WORD));
+        assertTrue(parser.parseCommandWithFile(ImportCommand.COMMAND_WORD + " " + ImportCommand.PROPERTIES)
+                .get() instanceof ImportPropertiesCommand);
+        assertTrue(parser.parseCommandWithFile(ImportCommand.COMMAND_WORD + " " + ImportCommand.BUYERS)
+                .get() instanceof ImportBuyersCommand);
+    }
 
     @Test
-    public void getCommandPreAction_help() throws Exception {
-        assertFalse(parser.getCommandPreAction(HelpCommand.COMMAND_WORD).requiresFile());
-        assertFalse(parser.getCommandPreAction(HelpCommand.COMMAND_WORD + " 3").requiresFile());
+    public void parse_commandWithoutFile_noPreAction() throws Exception {
+        ParsedCommand parsedCommand = parser.parse(HelpCommand.COMMAND_WORD + " 3");
+        assertTrue(parsedCommand.getCommand() instanceof HelpCommand);
+        assertEquals(HelpCommand.COMMAND_WORD + " 3", parsedCommand.getCommandText());
+        assertFalse(parsedCommand.getPreAction().requiresFile());
     }
 
     @Test
-    public void getCommandPreAction_export() throws Exception {
+    public void parse_export() throws Exception {
         assertThrows(ParseException.class, MESSAGE_INVALID_ACTOR, () ->
-                parser.getCommandPreAction(ExportCommand.COMMAND_WORD));
+                parser.parse(ExportCommand.COMMAND_WORD));
         assertThrows(ParseException.class, MESSAGE_INVALID_ACTOR, () ->
-                parser.getCommandPreAction(ExportCommand.COMMAND_WORD + " 1"));
-        assertTrue(parser.getCommandPreAction(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES)
+                parser.parse(ExportCommand.COMMAND_WORD + " 1"));
+        assertTrue(parser.parse(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES).getPreAction()
                 .equals(new CommandPreAction(ExportCommand.COMMAND_WORD + " " + ExportCommand.PROPERTIES, true)));
-        assertTrue(parser.getCommandPreAction(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS)
+        assertTrue(parser.parse(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS).getPreAction()
                 .equals(new CommandPreAction(ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS, true)));
     }
+
+    @Test
+    public void parse_import() throws Exception {
+        ParsedCommand parsedCommand = parser.parse(ImportCommand.COMMAND_WORD + " " + ImportCommand.PROPERTIES);
+        assertTrue(parsedCommand.getCommandWithFile() instanceof ImportPropertiesCommand);
+        assertTrue(parsedCommand.getPreAction()
+                .equals(new CommandPreAction(ImportCommand.COMMAND_WORD + " " + ImportCommand.PROPERTIES, false)));
+        assertTrue(parser.parse(ImportCommand.COMMAND_WORD + " " + ImportCommand.BUYERS).getPreAction()
+                .equals(new CommandPreAction(ImportCommand.COMMAND_WORD + " " + ImportCommand.BUYERS, false)));
+    }
+
+    @Test
+    public void parseScript_validLines_parsesEachNonBlankLine() throws Exception {
+        List<ParsedCommand> script = parser.parseScript(ListCommand.COMMAND_WORD + "\n\n  \r\n"
+                + DeleteCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " " + INDEX_FIRST_PROPERTY.getOneBased());
+        assertEquals(2, script.size());
+        assertTrue(script.get(0).getCommand() instanceof ListCommand);
+        assertEquals(new DeletePropertyCommand(INDEX_FIRST_PROPERTY), script.get(1).getCommand());
+    }
+
+    @Test
+    public void parseScript_invalidLines_reportsEveryInvalidLine() {
+        String script = ListCommand.COMMAND_WORD + "\n"
+                + "unknownCommand\n"
+                + "\n"
+                + ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS + "\n"
+                + UndoCommand.COMMAND_WORD;
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_SCRIPT_LINE, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(AddressBookParser.MESSAGE_SCRIPT_LINE, 4,
+                        AddressBookParser.MESSAGE_FILE_COMMAND_NOT_IN_SCRIPT)
+                + "\n" + String.format(AddressBookParser.MESSAGE_SCRIPT_LINE, 5,
+                        AddressBookParser.MESSAGE_NOT_IN_SCRIPT);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseScript(script));
+    }
+
+    @Test
+    public void parseScript_blankLinesOnly_throwsParseException() {
+        assertThrows(ParseException.class, AddressBookParser.MESSAGE_EMPTY_SCRIPT, () -> parser.parseScript(" \n\n"));
+    }
 }
@@ -136,6 +136,15 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesStartingAlike_longestRecognised() {
+        Prefix dashTx = new Prefix("-tx");
+        String argsString = "SomePreambleString -tx dashTx value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTx);
+        assertArgumentPresent(argMultimap, dashTx, "dashTx value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
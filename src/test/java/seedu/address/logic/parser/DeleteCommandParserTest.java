@@ -5,6 +5,9 @@ import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_PROPERTY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROPERTY;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PROPERTY;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,9 +31,23 @@ public class DeleteCommandParserTest {
                 new DeletePropertyCommand(INDEX_FIRST_PROPERTY));
     }
 
+    @Test
+    public void parse_multipleIndexes_returnsDeleteCommand() {
+        assertParseSuccess(parser, PREAMBLE_PROPERTY + " 1 2",
+                new DeletePropertyCommand(Arrays.asList(INDEX_FIRST_PROPERTY, INDEX_SECOND_PROPERTY)));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, PREAMBLE_PROPERTY + " " + "a",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+
+        // one invalid index among valid ones
+        assertParseFailure(parser, PREAMBLE_PROPERTY + " 1 a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+
+        // no index
+        assertParseFailure(parser, PREAMBLE_PROPERTY,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
 }
@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.field.ContainsTagsPredicate;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.Price;
+import seedu.address.model.field.PriceRange;
 import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
@@ -67,5 +70,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, "Alice Bob t/condo t/4rm", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validPriceBounds_returnsFindCommand() {
+        PriceRange priceRange = new PriceRange(Optional.of(new Price("800000")), Optional.of(new Price("1200000")));
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Alice")), new ContainsTagsPredicate(), priceRange);
+        assertParseSuccess(parser, "Alice $min/800000 $max/1200000", expectedFindCommand);
+        assertParseSuccess(parser, "Alice $max/1200000 $min/800000", expectedFindCommand);
+
+        // only one bound
+        expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(), new ContainsTagsPredicate(),
+                new PriceRange(Optional.empty(), Optional.of(new Price("1200000"))));
+        assertParseSuccess(parser, " $max/1200000", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidPriceBounds_throwsParseException() {
+        assertParseFailure(parser, " $min/12", Price.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " $max/abc", Price.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " $min/1200000 $max/800000", PriceRange.MESSAGE_CONSTRAINTS);
+    }
+
 
 }
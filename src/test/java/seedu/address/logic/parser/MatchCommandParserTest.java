@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PROPERTY;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MatchCommand;
+
+public class MatchCommandParserTest {
+
+    private MatchCommandParser parser = new MatchCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsMatchAllCommand() {
+        assertParseSuccess(parser, "   ", new MatchCommand());
+    }
+
+    @Test
+    public void parse_validIndex_returnsMatchCommand() {
+        assertParseSuccess(parser, " 1 ", new MatchCommand(INDEX_FIRST_PROPERTY));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
 import static seedu.address.testutil.TypicalProperties.P_ALICE;
 
 import java.util.Arrays;
@@ -21,6 +22,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.testutil.BuyerBuilder;
 import seedu.address.testutil.PropertyBuilder;
 
 public class AddressBookTest {
@@ -79,11 +81,43 @@ public class AddressBookTest {
         assertTrue(addressBook.hasProperty(editedAlice));
     }
 
+    @Test
+    public void getVersion_modifications_incremented() {
+        long version = addressBook.getVersion();
+        addressBook.hasProperty(P_ALICE);
+        addressBook.getPropertyNamePredicate(List.of("Alice"));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addProperty(P_ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removeProperty(P_ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.addBuyer(B_CARL);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
     @Test
     public void getPropertyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPropertyList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterModifications_unchanged() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addBuyer(B_CARL);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removeProperty(P_ALICE);
+        addressBook.addBuyer(B_CARL, new BuyerBuilder(B_CARL).withMaxPrice("750000").build());
+        assertEquals(List.of(P_ALICE), snapshot.getPropertyList());
+        assertEquals(List.of(B_CARL), snapshot.getBuyerList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPropertyList().remove(0));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose properties list can violate interface constraints.
      */
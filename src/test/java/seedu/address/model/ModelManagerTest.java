@@ -7,16 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PROPERTIES;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.P_ALICE;
 import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.field.NameContainsKeywordsPredicate;
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.field.SortType;
+import seedu.address.model.property.Property;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PropertyBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,155 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasProperty(P_ALICE));
     }
 
+    @Test
+    public void addProperty_filterNotKept_showsAllProperties() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.updateFilteredPropertyList(property -> false);
+        modelManager.addProperty(P_BENSON);
+        assertEquals(Arrays.asList(P_ALICE, P_BENSON), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void addProperty_filterKept_filterAppliedToNewProperty() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setKeepFilterOnAdd(true);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.updateFilteredPropertyList(property -> property.equals(P_BENSON));
+
+        modelManager.addProperty(P_ALICE);
+        assertTrue(modelManager.getFilteredPropertyList().isEmpty());
+        modelManager.addProperty(P_BENSON);
+        assertEquals(Arrays.asList(P_BENSON), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void commitBatch_modificationsAndFilter_appliedTogether() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.beginBatch();
+        modelManager.addProperty(P_BENSON);
+        modelManager.deleteProperty(P_ALICE);
+        modelManager.updateFilteredPropertyList(property -> property.equals(P_BENSON));
+
+        // the filtered list is unchanged until the batch is committed
+        assertTrue(modelManager.isBatching());
+        assertEquals(Arrays.asList(P_ALICE), modelManager.getFilteredPropertyList());
+        assertTrue(modelManager.hasProperty(P_BENSON));
+
+        modelManager.commitBatch();
+        assertFalse(modelManager.isBatching());
+        assertEquals(Arrays.asList(P_BENSON), modelManager.getFilteredPropertyList());
+    }
+
+    @Test
+    public void rollbackBatch_modifications_undone() {
+        modelManager.addProperty(P_ALICE);
+        long version = modelManager.getAddressBookVersion();
+        modelManager.beginBatch();
+        modelManager.addProperty(P_BENSON);
+        modelManager.deleteProperty(P_ALICE);
+        modelManager.updateFilteredPropertyList(property -> false);
+
+        modelManager.rollbackBatch();
+        assertFalse(modelManager.isBatching());
+        assertTrue(modelManager.hasProperty(P_ALICE));
+        assertFalse(modelManager.hasProperty(P_BENSON));
+        assertEquals(Arrays.asList(P_ALICE), modelManager.getFilteredPropertyList());
+        assertTrue(modelManager.getAddressBookVersion() > version);
+    }
+
+    @Test
+    public void undo_deleteEditAndSort_restoresAddressBook() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.addProperty(P_BENSON);
+        modelManager.addProperty(P_CARL);
+        modelManager.commitUndoStep();
+        AddressBook expected = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.beginBatch();
+        modelManager.deleteProperty(P_BENSON);
+        modelManager.setProperty(P_CARL, new PropertyBuilder(P_CARL).withPrice("100").build());
+        modelManager.commitBatch();
+        modelManager.sortProperties(SortType.NAME, SortDirection.DESC);
+        modelManager.commitUndoStep();
+        AddressBook modified = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(expected, modelManager.getAddressBook());
+        assertTrue(modelManager.canRedo());
+
+        modelManager.redo();
+        assertEquals(modified, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_deleteThenEdit_restoredPropertiesCanBeEditedAndDeleted() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.addProperty(P_BENSON);
+        modelManager.addProperty(P_CARL);
+        modelManager.commitUndoStep();
+
+        modelManager.deleteProperty(P_BENSON);
+        modelManager.commitUndoStep();
+        Property cheapCarl = new PropertyBuilder(P_CARL).withPrice("100").build();
+        modelManager.setProperty(P_CARL, cheapCarl);
+        modelManager.commitUndoStep();
+        modelManager.undo();
+        modelManager.undo();
+
+        // Undoing the deletion reinserts the property before the one it displaced, whose position must follow it
+        modelManager.setProperty(P_CARL, cheapCarl);
+        modelManager.deleteProperty(cheapCarl);
+        modelManager.commitUndoStep();
+        assertEquals(Arrays.asList(P_ALICE, P_BENSON), modelManager.getAddressBook().getPropertyList());
+
+        modelManager.undo();
+        assertEquals(Arrays.asList(P_ALICE, P_BENSON, P_CARL), modelManager.getAddressBook().getPropertyList());
+    }
+
+    @Test
+    public void undo_uncommittedModifications_undoneAsOneStep() {
+        modelManager.setAddressBook(new AddressBookBuilder().withProperty(P_ALICE).build());
+        modelManager.addProperty(P_BENSON);
+
+        modelManager.undo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void rollbackBatch_modifications_notUndoable() {
+        modelManager.beginBatch();
+        modelManager.addProperty(P_ALICE);
+        modelManager.rollbackBatch();
+        modelManager.commitUndoStep();
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void rollbackUndoStep_modificationsSinceLastStep_undone() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.commitUndoStep();
+        modelManager.addProperty(P_BENSON);
+        modelManager.deleteProperty(P_ALICE);
+
+        modelManager.rollbackUndoStep();
+        assertEquals(Collections.singletonList(P_ALICE), modelManager.getAddressBook().getPropertyList());
+        assertFalse(modelManager.canRedo());
+
+        // the step before is still there to be undone
+        modelManager.undo();
+        assertTrue(modelManager.getAddressBook().getPropertyList().isEmpty());
+    }
+
+    @Test
+    public void commitUndoStep_afterUndo_cannotRedo() {
+        modelManager.addProperty(P_ALICE);
+        modelManager.undo();
+        modelManager.addProperty(P_BENSON);
+        modelManager.commitUndoStep();
+        assertFalse(modelManager.canRedo());
+    }
+
     @Test
     public void getFilteredPropertyList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPropertyList().remove(0));
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AddressBookBuilder;
+
+public class UndoLogTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void record_beyondCapacity_discardsOldestSteps() {
+        AddressBookEdit addAlice = AddressBookEdit.addProperty(P_ALICE);
+        AddressBookEdit addBenson = AddressBookEdit.addProperty(P_BENSON);
+        UndoLog undoLog = new UndoLog(addAlice.getEstimatedBytes() + addBenson.getEstimatedBytes() - 1);
+
+        addressBook.addProperty(P_ALICE);
+        undoLog.record(List.of(addAlice));
+        addressBook.addProperty(P_BENSON);
+        undoLog.record(List.of(addBenson));
+        assertEquals(addBenson.getEstimatedBytes(), undoLog.getEstimatedBytes());
+
+        undoLog.undo(addressBook);
+        assertEquals(new AddressBookBuilder().withProperty(P_ALICE).build(), addressBook);
+        assertFalse(undoLog.canUndo());
+    }
+
+    @Test
+    public void record_afterUndo_discardsUndoneSteps() {
+        UndoLog undoLog = new UndoLog(Long.MAX_VALUE);
+        addressBook.addProperty(P_ALICE);
+        undoLog.record(List.of(AddressBookEdit.addProperty(P_ALICE)));
+        undoLog.undo(addressBook);
+        assertTrue(undoLog.canRedo());
+
+        AddressBookEdit addBenson = AddressBookEdit.addProperty(P_BENSON);
+        addressBook.addProperty(P_BENSON);
+        undoLog.record(List.of(addBenson));
+        assertFalse(undoLog.canRedo());
+        assertEquals(addBenson.getEstimatedBytes(), undoLog.getEstimatedBytes());
+    }
+
+    @Test
+    public void undo_removals_restoresPositions() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_BENSON);
+        AddressBook expected = new AddressBook(addressBook);
+        UndoLog undoLog = new UndoLog(Long.MAX_VALUE);
+
+        addressBook.removeProperty(P_ALICE);
+        undoLog.record(List.of(AddressBookEdit.removeProperty(0, P_ALICE)));
+        undoLog.undo(addressBook);
+        assertEquals(expected, addressBook);
+        assertEquals(0, addressBook.indexOfProperty(P_ALICE));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+import static seedu.address.testutil.TypicalBuyers.B_DANIEL;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+import static seedu.address.testutil.TypicalProperties.getTypicalProperties;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.PriceIndex;
+import seedu.address.model.property.Property;
+import seedu.address.model.property.TagIndex;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+public class MatchEngineTest {
+
+    private static final String[] TAGS = {"condo", "hdb", "pool", "near mrt", "4 rm"};
+
+    private final PriceIndex<Property> priceIndex = new PriceIndex<>(property -> property.getPrice().value);
+    private final TagIndex<Property> tagIndex = new TagIndex<>();
+    private final PriceIndex<Buyer> buyerPriceIndex = new PriceIndex<>(buyer -> buyer.getMaxPrice().value);
+    private final MatchEngine engine = new MatchEngine(priceIndex, tagIndex, buyerPriceIndex);
+
+    @Test
+    public void getMatchingProperties_typicalProperties() {
+        getTypicalProperties().forEach(this::addProperty);
+
+        assertEquals(Collections.singleton(P_ALICE), new HashSet<>(engine.getMatchingProperties(B_BENSON)));
+        assertEquals(new HashSet<>(getTypicalProperties()), new HashSet<>(engine.getMatchingProperties(B_CARL)));
+        assertEquals(Collections.emptyList(), engine.getMatchingProperties(B_DANIEL));
+    }
+
+    @Test
+    public void getMatchingBuyers_typicalBuyers() {
+        Arrays.asList(B_BENSON, B_CARL, B_DANIEL).forEach(buyerPriceIndex::add);
+
+        assertEquals(Arrays.asList(B_CARL, B_BENSON), engine.getMatchingBuyers(P_ALICE));
+        assertEquals(Arrays.asList(B_CARL), engine.getMatchingBuyers(P_CARL));
+    }
+
+    @Test
+    public void getAllMatches_manyBuyers_sameAsNestedLoop() {
+        Random random = new Random(2021);
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            properties.add(new PropertyBuilder().withName("Property " + i)
+                    .withPrice(String.valueOf(100000 + random.nextInt(900000)))
+                    .withTags(randomTags(random)).build());
+        }
+        properties.forEach(this::addProperty);
+        List<Buyer> buyers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            buyers.add(new BuyerBuilder().withName("Buyer " + i)
+                    .withMaxPrice(String.valueOf(100000 + random.nextInt(900000)))
+                    .withTags(randomTags(random)).build());
+        }
+
+        buyers.forEach(buyerPriceIndex::add);
+        Map<Buyer, List<Property>> matches = engine.getAllMatchingProperties(buyers);
+        Map<Property, List<Buyer>> reverseMatches = engine.getAllMatchingBuyers(properties);
+
+        assertEquals(buyers, new ArrayList<>(matches.keySet()));
+        for (Buyer buyer : buyers) {
+            Set<Property> expected = properties.stream()
+                    .filter(property -> property.getPrice().compareTo(buyer.getMaxPrice()) <= 0)
+                    .filter(property -> property.getTags().containsAll(buyer.getTags()))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(matches.get(buyer)));
+            expected.forEach(property -> assertTrue(reverseMatches.get(property).contains(buyer)));
+        }
+        int matchCount = matches.values().stream().mapToInt(List::size).sum();
+        assertEquals(matchCount, reverseMatches.values().stream().mapToInt(List::size).sum());
+    }
+
+    private void addProperty(Property property) {
+        priceIndex.add(property);
+        tagIndex.add(property);
+    }
+
+    private static String[] randomTags(Random random) {
+        List<String> tags = new ArrayList<>(Arrays.asList(TAGS));
+        Collections.shuffle(tags, random);
+        return tags.subList(0, random.nextInt(3)).toArray(new String[0]);
+    }
+}
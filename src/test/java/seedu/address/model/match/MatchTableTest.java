@@ -0,0 +1,121 @@
+package seedu.address.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalBuyers.B_CARL;
+import static seedu.address.testutil.TypicalBuyers.B_DANIEL;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.BuyerBuilder;
+import seedu.address.testutil.PropertyBuilder;
+
+/**
+ * Tests that the match table of an {@code AddressBook} follows changes to its properties and buyers.
+ */
+public class MatchTableTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.addProperty(P_ALICE);
+        addressBook.addProperty(P_CARL);
+        addressBook.addBuyer(B_BENSON);
+        addressBook.addBuyer(B_CARL);
+    }
+
+    @Test
+    public void addBuyerAndProperty_countsUpdated() {
+        assertEquals(2, addressBook.getMatchingBuyerCount(P_ALICE));
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_CARL));
+
+        addressBook.addBuyer(B_DANIEL);
+        assertEquals(2, addressBook.getMatchingBuyerCount(P_ALICE));
+
+        Buyer cheapBuyer = new BuyerBuilder(B_DANIEL).withName("Cheap Buyer").withMaxPrice("200000").build();
+        addressBook.addBuyer(cheapBuyer);
+        assertEquals(2, addressBook.getMatchingBuyerCount(P_CARL));
+
+        addressBook.addProperty(P_BENSON);
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_BENSON));
+    }
+
+    @Test
+    public void editAndDelete_countsUpdated() {
+        Buyer poorerCarl = new BuyerBuilder(B_CARL).withMaxPrice("123456").build();
+        addressBook.addBuyer(B_CARL, poorerCarl);
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_ALICE));
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_CARL));
+
+        Property untaggedAlice = new PropertyBuilder(P_ALICE).withTags().build();
+        addressBook.addProperty(P_ALICE, untaggedAlice);
+        assertEquals(0, addressBook.getMatchingBuyerCount(untaggedAlice));
+
+        addressBook.removeBuyer(poorerCarl);
+        assertEquals(0, addressBook.getMatchingBuyerCount(P_CARL));
+    }
+
+    @Test
+    public void resetData_countsRecomputed() {
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(2, copy.getMatchingBuyerCount(P_ALICE));
+
+        copy.setBuyers(Arrays.asList(B_DANIEL));
+        assertEquals(0, copy.getMatchingBuyerCount(P_ALICE));
+    }
+
+    @Test
+    public void change_listenersNotified() {
+        AtomicInteger invalidations = new AtomicInteger();
+        addressBook.getMatchTable().addListener(unused -> invalidations.incrementAndGet());
+
+        addressBook.addBuyer(B_DANIEL);
+        assertEquals(1, invalidations.get());
+    }
+
+    @Test
+    public void addAndRemoveBuyer_countListenersGivenMatchedProperties() {
+        List<Property> changed = new ArrayList<>();
+        addressBook.addMatchingBuyerCountListener(changed::add);
+
+        Buyer cheapBuyer = new BuyerBuilder(B_DANIEL).withName("Cheap Buyer").withMaxPrice("200000").build();
+        addressBook.addBuyer(cheapBuyer);
+        assertEquals(List.of(P_CARL), changed);
+
+        changed.clear();
+        addressBook.removeBuyer(cheapBuyer);
+        assertEquals(List.of(P_CARL), changed);
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_CARL));
+    }
+
+    @Test
+    public void resetData_countedOnceAndListenersNotifiedOnce() {
+        AddressBook other = new AddressBook();
+        other.addProperty(P_ALICE);
+        other.addBuyer(B_BENSON);
+        AtomicInteger invalidations = new AtomicInteger();
+        addressBook.getMatchTable().addListener(unused -> invalidations.incrementAndGet());
+
+        addressBook.resetData(other);
+        assertEquals(1, invalidations.get());
+        assertEquals(1, addressBook.getMatchingBuyerCount(P_ALICE));
+        assertEquals(0, addressBook.getMatchingBuyerCount(P_CARL));
+
+        // Counts are still updated after the reset.
+        addressBook.addBuyer(B_CARL);
+        assertEquals(2, addressBook.getMatchingBuyerCount(P_ALICE));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class CoalescingObservableListTest {
+
+    private final CoalescingObservableList<String> list = new CoalescingObservableList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c", "d"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void modify_outsideBatch_notifiesEachModification() {
+        list.add("e");
+        list.remove(0);
+        list.set(0, "x");
+        list.sort(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("x", "e", "d", "c"), list);
+        assertEquals(4, changeCount);
+    }
+
+    @Test
+    public void endBatch_manyModifications_notifiesOnce() {
+        list.beginBatch();
+        list.remove(3);
+        list.remove(1);
+        list.add("e");
+        list.set(0, "x");
+        assertEquals(0, changeCount);
+
+        list.endBatch();
+        assertEquals(Arrays.asList("x", "c", "e"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void endBatch_noModification_doesNotNotify() {
+        list.beginBatch();
+        list.endBatch();
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void cancelBatch_modifications_restoresListWithoutNotifying() {
+        list.beginBatch();
+        list.remove(2);
+        list.add(1, "x");
+        list.sort(Comparator.reverseOrder());
+        list.remove(0);
+
+        list.cancelBatch();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void getModificationsBetween_modifiedBetweenSnapshots_modificationsInOrder() {
+        List<String> earlier = list.snapshot();
+        list.add(1, "x");
+        list.set(0, "y");
+        list.remove(4);
+        List<String> later = list.snapshot();
+        list.add("z");
+
+        List<ListModification<String>> modifications =
+                CoalescingObservableList.getModificationsBetween(earlier, later);
+        assertEquals(3, modifications.size());
+        assertEquals(ListModification.Kind.ADD, modifications.get(0).getKind());
+        assertEquals(List.of("x"), modifications.get(0).getElements());
+        assertEquals(ListModification.Kind.SET, modifications.get(1).getKind());
+        assertEquals(0, modifications.get(1).getIndex());
+        assertEquals(ListModification.Kind.REMOVE, modifications.get(2).getKind());
+        assertEquals(4, modifications.get(2).getIndex());
+        assertEquals(List.of(), CoalescingObservableList.getModificationsBetween(later, later));
+    }
+
+    @Test
+    public void getModificationsBetween_notReplayable_null() {
+        List<String> earlier = list.snapshot();
+        list.add("e");
+        List<String> later = list.snapshot();
+        list.sort(Comparator.reverseOrder());
+
+        assertNull(CoalescingObservableList.getModificationsBetween(later, earlier));
+        assertNull(CoalescingObservableList.getModificationsBetween(earlier, list.snapshot()));
+        assertNull(CoalescingObservableList.getModificationsBetween(List.copyOf(later), later));
+    }
+
+    @Test
+    public void getModificationsBetween_cancelledBatch_onlyKeptModifications() {
+        List<String> earlier = list.snapshot();
+        list.beginBatch();
+        list.remove(0);
+        List<String> cancelled = list.snapshot();
+        list.cancelBatch();
+        list.add("e");
+        List<String> later = list.snapshot();
+
+        assertEquals(1, CoalescingObservableList.getModificationsBetween(earlier, later).size());
+        assertNull(CoalescingObservableList.getModificationsBetween(cancelled, later));
+        assertNull(CoalescingObservableList.getModificationsBetween(earlier, cancelled));
+    }
+}
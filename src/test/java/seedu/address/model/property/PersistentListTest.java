@@ -0,0 +1,80 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void modify_randomOperations_matchesArrayList() {
+        Random random = new Random(42);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.remove(index);
+                expected.remove(index);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list = list.set(index, i);
+                expected.set(index, i);
+            } else {
+                List<Integer> appended = List.of(i, i + 1, i + 2);
+                list = list.addAll(appended);
+                expected.addAll(appended);
+            }
+        }
+
+        assertEquals(expected, toList(list.iterator()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void modify_earlierVersion_unchanged() {
+        PersistentList<Integer> original = PersistentList.of(List.of(1, 2, 3));
+        original.add(4).remove(0).set(0, 5);
+        assertEquals(List.of(1, 2, 3), toList(original.iterator()));
+    }
+
+    @Test
+    public void iterator_fromIndex_iteratesRemainingElements() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        PersistentList<Integer> list = PersistentList.of(elements);
+        for (int from = 0; from <= elements.size(); from++) {
+            assertEquals(elements.subList(from, elements.size()), toList(list.iterator(from)));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, 4));
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    private static <E> List<E> toList(Iterator<E> iterator) {
+        List<E> elements = new ArrayList<>();
+        iterator.forEachRemaining(elements::add);
+        return elements;
+    }
+}
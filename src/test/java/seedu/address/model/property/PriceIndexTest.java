@@ -0,0 +1,117 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.field.Price;
+import seedu.address.model.field.PriceRange;
+import seedu.address.testutil.PropertyBuilder;
+
+public class PriceIndexTest {
+
+    private final PriceIndex<Property> index = new PriceIndex<>(property -> property.getPrice().value);
+    private final Property cheap = new PropertyBuilder().withName("Cheap").withPrice("100000").build();
+    private final Property middle = new PropertyBuilder().withName("Middle").withPrice("500000").build();
+    private final Property alsoMiddle = new PropertyBuilder().withName("Also Middle").withPrice("500000").build();
+    private final Property dear = new PropertyBuilder().withName("Dear").withPrice("900000").build();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(dear);
+        index.add(middle);
+        index.add(cheap);
+        index.add(alsoMiddle);
+    }
+
+    @Test
+    public void getInRange_boundsInclusive_returnsElementsInPriceOrder() {
+        assertEquals(Arrays.asList(middle, alsoMiddle, dear), index.getInRange(range("500000", "900000")));
+        assertEquals(Arrays.asList(cheap, middle, alsoMiddle, dear), index.getInRange(PriceRange.ALL));
+        assertEquals(Collections.emptyList(), index.getInRange(range("500001", "899999")));
+    }
+
+    @Test
+    public void countInRange() {
+        assertEquals(2, index.countInRange(range("500000", "500000")));
+        assertEquals(1, index.countInRange(new PriceRange(Optional.empty(), Optional.of(new Price("499999")))));
+        assertEquals(4, index.countInRange(PriceRange.ALL));
+    }
+
+    @Test
+    public void remove_duplicatePrice_removesOnlyGivenElement() {
+        index.remove(middle);
+        assertEquals(Arrays.asList(alsoMiddle), index.getInRange(range("500000", "500000")));
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_keepsOrder() {
+        index.clear();
+        for (int i = 99; i >= 0; i--) {
+            index.add(new PropertyBuilder().withName("Property " + i).withPrice(String.valueOf(100000 + i)).build());
+        }
+        assertEquals(100, index.countInRange(PriceRange.ALL));
+        assertEquals(10, index.countInRange(range("100010", "100019")));
+    }
+
+    @Test
+    public void addAll_mergedWithIndexedElements_sameOrderAsAddingOneByOne() {
+        Property alsoCheap = new PropertyBuilder().withName("Also Cheap").withPrice("100000").build();
+        Property dearest = new PropertyBuilder().withName("Dearest").withPrice("950000").build();
+        Property thirdMiddle = new PropertyBuilder().withName("Third Middle").withPrice("500000").build();
+        PriceIndex<Property> oneByOne = new PriceIndex<>(property -> property.getPrice().value);
+        Arrays.asList(dear, middle, cheap, alsoMiddle, dearest, thirdMiddle, alsoCheap).forEach(oneByOne::add);
+
+        index.addAll(Arrays.asList(dearest, thirdMiddle, alsoCheap));
+        assertEquals(oneByOne.getInRange(PriceRange.ALL), index.getInRange(PriceRange.ALL));
+        assertEquals(Arrays.asList(cheap, alsoCheap), index.getInRange(range("100000", "100000")));
+    }
+
+    @Test
+    public void addAll_beyondCapacity_keepsOrder() {
+        index.clear();
+        List<Property> properties = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            properties.add(new PropertyBuilder().withName("Property " + i).withPrice(String.valueOf(100000 + i))
+                    .build());
+        }
+        index.addAll(properties);
+        assertEquals(100, index.countInRange(PriceRange.ALL));
+        assertEquals(properties.get(99), index.getInRange(PriceRange.ALL).get(0));
+    }
+
+    @Test
+    public void inRange() {
+        Predicate<Property> predicate = index.inRange(range("200000", "600000"));
+        assertTrue(predicate.test(middle));
+        assertFalse(predicate.test(cheap));
+        assertFalse(predicate.test(dear));
+    }
+
+    @Test
+    public void inRange_reflectsLaterChanges() {
+        Predicate<Property> predicate = index.inRange(range("200000", "600000"));
+        assertFalse(predicate.test(cheap));
+
+        Property editedCheap = new PropertyBuilder(cheap).withPrice("300000").build();
+        index.remove(cheap);
+        index.add(editedCheap);
+        assertTrue(predicate.test(editedCheap));
+        index.remove(middle);
+        assertFalse(predicate.test(middle));
+    }
+
+    private static PriceRange range(String min, String max) {
+        return new PriceRange(Optional.of(new Price(min)), Optional.of(new Price(max)));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PropertyBuilder;
+
+public class PropertyNameIndexTest {
+
+    private final PropertyNameIndex index = new PropertyNameIndex();
+
+    @Test
+    public void add_nullProperty_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getPropertiesWithWord_matchesFullWordsIgnoringCase() {
+        Property aliceBob = new PropertyBuilder().withName("Alice Bob").build();
+        Property carol = new PropertyBuilder().withName("Carol").build();
+        index.add(aliceBob);
+        index.add(carol);
+
+        assertEquals(Collections.singleton(aliceBob), index.getPropertiesWithWord("aLIce"));
+        assertEquals(Collections.singleton(carol), index.getPropertiesWithWord("CAROL"));
+        assertTrue(index.getPropertiesWithWord("Ali").isEmpty());
+    }
+
+    @Test
+    public void remove_existingProperty_removesFromPostings() {
+        Property aliceBob = new PropertyBuilder().withName("Alice Bob").build();
+        index.add(aliceBob);
+        index.remove(aliceBob);
+
+        assertTrue(index.getPropertiesWithWord("Alice").isEmpty());
+        assertTrue(index.getPropertiesWithWord("Bob").isEmpty());
+    }
+
+    @Test
+    public void getPropertiesWithWord_modifyResult_throwsUnsupportedOperationException() {
+        index.add(new PropertyBuilder().withName("Alice").build());
+        Set<Property> result = index.getPropertiesWithWord("Alice");
+        assertThrows(UnsupportedOperationException.class, () -> result.clear());
+    }
+
+    @Test
+    public void containsAnyWord_reflectsLaterChanges() {
+        Property alice = new PropertyBuilder().withName("Alice").build();
+        Property aliceBob = new PropertyBuilder().withName("Alice Bob").build();
+        Predicate<Property> predicate = index.containsAnyWord(Arrays.asList("bob", "Carol"));
+
+        index.add(alice);
+        assertFalse(predicate.test(alice));
+
+        index.remove(alice);
+        index.add(aliceBob);
+        assertTrue(predicate.test(aliceBob));
+
+        index.clear();
+        assertFalse(predicate.test(aliceBob));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.testutil.PropertyBuilder;
+
+public class TagIndexTest {
+
+    private static final TagSet CONDO_FOUR_ROOM = TagSet.of(Set.of(new Tag("condo"), new Tag("4 rm")));
+
+    private final TagIndex<Property> index = new TagIndex<>();
+    private final Property condo = new PropertyBuilder().withName("Condo").withTags("condo").build();
+    private final Property condoFourRoom = new PropertyBuilder().withName("Condo Four Room")
+            .withTags("condo", "4 rm").build();
+    private final Property untagged = new PropertyBuilder().withName("Untagged").withTags().build();
+
+    @Test
+    public void containsAllTags_matchesOnlyElementsWithEveryTag() {
+        index.add(condo);
+        index.add(condoFourRoom);
+        index.add(untagged);
+
+        Predicate<Property> predicate = index.containsAllTags(CONDO_FOUR_ROOM);
+        assertTrue(predicate.test(condoFourRoom));
+        assertFalse(predicate.test(condo));
+        assertFalse(predicate.test(untagged));
+        assertEquals(1, index.countWithAllTags(CONDO_FOUR_ROOM));
+    }
+
+    @Test
+    public void containsAllTags_unknownTag_matchesNothing() {
+        index.add(condoFourRoom);
+        TagSet unknown = TagSet.of(Set.of(new Tag("never used by any property")));
+        assertFalse(index.containsAllTags(unknown).test(condoFourRoom));
+    }
+
+    @Test
+    public void containsAllTags_noTags_matchesEverything() {
+        assertTrue(index.containsAllTags(TagSet.empty()).test(untagged));
+    }
+
+    @Test
+    public void containsAllTags_indexChangedAfterCreation_reflectsChanges() {
+        index.add(condo);
+        Predicate<Property> predicate = index.containsAllTags(CONDO_FOUR_ROOM);
+        assertFalse(predicate.test(condo));
+
+        Property edited = new PropertyBuilder(condo).withTags("condo", "4 rm").build();
+        index.remove(condo);
+        index.add(edited);
+        assertTrue(predicate.test(edited));
+        assertFalse(predicate.test(condo));
+    }
+
+    @Test
+    public void remove_slotReused_doesNotLeakTags() {
+        index.add(condoFourRoom);
+        index.remove(condoFourRoom);
+        index.add(untagged);
+
+        assertFalse(index.containsAllTags(CONDO_FOUR_ROOM).test(untagged));
+        assertEquals(0, index.countWithAllTags(CONDO_FOUR_ROOM));
+    }
+}
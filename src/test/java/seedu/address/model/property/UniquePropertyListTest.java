@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_AMY;
 import static seedu.address.testutil.TypicalProperties.P_BOB;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertiesSortedNameAsc;
 import static seedu.address.testutil.TypicalProperties.getTypicalPropertiesSortedNameDesc;
@@ -64,6 +65,28 @@ public class UniquePropertyListTest {
         assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.add(P_ALICE));
     }
 
+    @Test
+    public void addAll_newProperties_addedInOrder() {
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.addAll(Arrays.asList(P_BOB, P_AMY));
+        UniquePropertyList expectedUniquePropertyList = new UniquePropertyList();
+        expectedUniquePropertyList.add(P_ALICE);
+        expectedUniquePropertyList.add(P_BOB);
+        expectedUniquePropertyList.add(P_AMY);
+        assertEquals(expectedUniquePropertyList, uniquePropertyList);
+        assertTrue(uniquePropertyList.contains(P_AMY));
+    }
+
+    @Test
+    public void addAll_duplicateProperty_throwsDuplicatePropertyException() {
+        uniquePropertyList.add(P_ALICE);
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.addAll(Arrays.asList(P_BOB, P_ALICE)));
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.addAll(Arrays.asList(P_BOB, P_BOB)));
+
+        // nothing is added when any property is a duplicate
+        assertFalse(uniquePropertyList.contains(P_BOB));
+    }
+
     @Test
     public void setProperty_nullTargetProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePropertyList.setProperty(null, P_ALICE));
@@ -115,6 +138,70 @@ public class UniquePropertyListTest {
         assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.setProperty(P_ALICE, P_BOB));
     }
 
+    @Test
+    public void setProperty_editedPropertyHasDifferentIdentity_releasesOldIdentity() {
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.setProperty(P_ALICE, P_BOB);
+        assertFalse(uniquePropertyList.contains(P_ALICE));
+        assertTrue(uniquePropertyList.contains(P_BOB));
+        uniquePropertyList.add(P_ALICE);
+    }
+
+    @Test
+    public void setProperty_afterRemovingEarlierProperty_replacesCorrectProperty() {
+        uniquePropertyList.setProperties(getTypicalPropertiesSortedPriceAsc());
+        Property first = getTypicalPropertiesSortedPriceAsc().get(0);
+        Property last = getTypicalPropertiesSortedPriceAsc().get(getTypicalPropertiesSortedPriceAsc().size() - 1);
+        uniquePropertyList.remove(first);
+        uniquePropertyList.setProperty(last, P_BOB);
+
+        List<Property> expectedProperties = getTypicalPropertiesSortedPriceAsc();
+        expectedProperties.remove(first);
+        expectedProperties.set(expectedProperties.size() - 1, P_BOB);
+        UniquePropertyList expectedUniquePropertyList = new UniquePropertyList();
+        expectedUniquePropertyList.setProperties(expectedProperties);
+        assertEquals(expectedUniquePropertyList, uniquePropertyList);
+    }
+
+    @Test
+    public void setProperty_afterSort_replacesCorrectProperty() {
+        uniquePropertyList.setProperties(getTypicalPropertiesSortedPriceAsc());
+        uniquePropertyList.sort(SortType.PRICE, SortDirection.DESC);
+        uniquePropertyList.setProperty(P_ALICE, P_BOB);
+
+        List<Property> expectedProperties = getTypicalPropertiesSortedPriceDesc();
+        expectedProperties.set(expectedProperties.indexOf(P_ALICE), P_BOB);
+        UniquePropertyList expectedUniquePropertyList = new UniquePropertyList();
+        expectedUniquePropertyList.setProperties(expectedProperties);
+        assertEquals(expectedUniquePropertyList, uniquePropertyList);
+    }
+
+    @Test
+    public void remove_propertyWithSameIdentityButDifferentFields_throwsPropertyNotFoundException() {
+        uniquePropertyList.add(P_ALICE);
+        Property editedAlice = new PropertyBuilder(P_ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PropertyNotFoundException.class, () -> uniquePropertyList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_equalButDistinctProperty_removedFromSecondaryIndexes() {
+        PropertyNameIndex nameIndex = new PropertyNameIndex();
+        uniquePropertyList.addIndex(nameIndex);
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.remove(new PropertyBuilder(P_ALICE).build());
+        assertTrue(nameIndex.getPropertiesWithWord("Jurong").isEmpty());
+    }
+
+    @Test
+    public void setProperty_equalButDistinctTarget_replacedInSecondaryIndexes() {
+        PropertyNameIndex nameIndex = new PropertyNameIndex();
+        uniquePropertyList.addIndex(nameIndex);
+        uniquePropertyList.add(P_ALICE);
+        uniquePropertyList.setProperty(new PropertyBuilder(P_ALICE).build(), P_BOB);
+        assertTrue(nameIndex.getPropertiesWithWord("Jurong").isEmpty());
+        assertEquals(Collections.singleton(P_BOB), nameIndex.getPropertiesWithWord("Bob"));
+    }
+
     @Test
     public void remove_nullProperty_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePropertyList.remove(null));
@@ -0,0 +1,81 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag CONDO = new Tag("Condo");
+    private static final Tag FOUR_ROOM = new Tag("4 rm");
+    private static final Tag POOL = new Tag("pool");
+
+    @Test
+    public void of_equalTagNames_sameId() {
+        assertEquals(new Tag("CONDO").getId(), CONDO.getId());
+        assertEquals(1, TagSet.of(Arrays.asList(CONDO, new Tag("condo"))).size());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameInstance() {
+        TagSet tags = TagSet.of(Set.of(CONDO));
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.empty(), TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void iterator_iteratesInOrderOfTagName() {
+        List<Tag> tags = new ArrayList<>(TagSet.of(Set.of(POOL, CONDO, FOUR_ROOM)));
+        assertEquals(Arrays.asList(FOUR_ROOM, CONDO, POOL), tags);
+    }
+
+    @Test
+    public void containsAll() {
+        TagSet all = TagSet.of(Set.of(CONDO, FOUR_ROOM, POOL));
+        TagSet some = TagSet.of(Set.of(CONDO, POOL));
+
+        assertTrue(all.containsAll(some));
+        assertTrue(all.containsAll(TagSet.empty()));
+        assertTrue(all.containsAll(Set.of(FOUR_ROOM)));
+        assertFalse(some.containsAll(all));
+        assertFalse(TagSet.empty().containsAll(some));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Set.of(CONDO));
+        assertTrue(tags.contains(new Tag("condo")));
+        assertFalse(tags.contains(POOL));
+        assertFalse(tags.contains("condo"));
+    }
+
+    @Test
+    public void equalsAndHashCode_consistentWithHashSet() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(CONDO, POOL));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertFalse(tagSet.equals(TagSet.of(Set.of(CONDO))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(CONDO));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(POOL));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(CONDO));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
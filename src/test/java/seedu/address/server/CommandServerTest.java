@@ -0,0 +1,116 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.commons.core.Messages.MESSAGE_FILE_COMMAND_WITHOUT_UI;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_PROPERTY;
+import static seedu.address.logic.commands.CommandTestUtil.PRICE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SELLER_DESC_AMY;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.property.AddPropertyCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.property.Property;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PropertyBuilder;
+import seedu.address.testutil.TypicalProperties;
+
+public class CommandServerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + " " + PREAMBLE_PROPERTY + " "
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SELLER_DESC_AMY + PRICE_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ExecutorService modelExecutor = Executors.newSingleThreadExecutor();
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("propertywhiz.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        server = new CommandServer(logic, modelExecutor);
+        server.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        modelExecutor.shutdown();
+    }
+
+    @Test
+    public void pipelinedCommands_answeredInOrderThenClosed() throws Exception {
+        String exportCommand = ExportCommand.COMMAND_WORD + " " + ExportCommand.BUYERS;
+        Property amy = new PropertyBuilder(TypicalProperties.P_AMY).withTags().build();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write((ListCommand.COMMAND_WORD + "\n\nunknown\n" + ADD_AMY + "\r\n" + exportCommand + "\n"
+                    + "delete property 9\n").getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals(CommandServer.ANSWER_OK + ListCommand.MESSAGE_SUCCESS, in.readLine());
+            assertEquals(CommandServer.ANSWER_ERROR + MESSAGE_UNKNOWN_COMMAND, in.readLine());
+            assertEquals(CommandServer.ANSWER_OK + String.format(AddPropertyCommand.MESSAGE_SUCCESS, amy),
+                    in.readLine());
+            assertEquals(CommandServer.ANSWER_ERROR + MESSAGE_FILE_COMMAND_WITHOUT_UI, in.readLine());
+            assertEquals(CommandServer.ANSWER_ERROR + MESSAGE_INVALID_PROPERTY_DISPLAYED_INDEX, in.readLine());
+            assertNull(in.readLine());
+        }
+        modelExecutor.submit(() -> assertEquals(1, model.getAddressBook().getPropertyList().size())).get();
+    }
+
+    @Test
+    public void lastCommandWithoutLineBreak_answeredWhenInputEnds() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("unknown\n" + ListCommand.COMMAND_WORD).getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals(CommandServer.ANSWER_ERROR + MESSAGE_UNKNOWN_COMMAND, in.readLine());
+            assertEquals(CommandServer.ANSWER_OK + ListCommand.MESSAGE_SUCCESS, in.readLine());
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    public void answer_lineBreaksAndBackslashes_escaped() {
+        assertEquals("OK a\\nb\\\\c", CommandServer.answer(CommandServer.ANSWER_OK, "a\r\nb\\c"));
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        AsyncAddressBookSaver saver =
+                new AsyncAddressBookSaver(new JsonAddressBookStorage(testFolder.resolve("ab")), 0);
+        assertThrows(NullPointerException.class, () -> saver.save(null, 1));
+    }
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.save(AddressBookSnapshot.of(original), 1);
+        saver.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, saver.getSavedVersion());
+    }
+
+    @Test
+    public void save_burstWhileSaving_coalescedIntoLatest() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder.resolve("ab"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0);
+        ReadOnlyAddressBook first = new AddressBook();
+        ReadOnlyAddressBook second = new AddressBook();
+        ReadOnlyAddressBook third = new AddressBook();
+
+        saver.save(first, 1);
+        storage.awaitFirstSave();
+        saver.save(second, 2);
+        saver.save(third, 3);
+        storage.releaseFirstSave();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+        assertEquals(3, saver.getSavedVersion());
+    }
+
+    @Test
+    public void save_versionAlreadySaved_notWrittenAgain() {
+        RecordingStorageStub storage = new RecordingStorageStub(testFolder.resolve("ab"));
+        storage.releaseFirstSave();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0);
+
+        saver.save(new AddressBook(), 0);
+        saver.save(new AddressBook(), 1);
+        saver.flush();
+        saver.save(new AddressBook(), 1);
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureHandlerCalled() {
+        IOException exception = new IOException("dummy");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        }, 0);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook(), 1);
+        saver.flush();
+        assertEquals(List.of(exception), failures);
+        assertEquals(0, saver.getSavedVersion());
+    }
+
+    /**
+     * A stub that records the address books saved, blocking the first save until released.
+     */
+    private static class RecordingStorageStub extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveReleased = new CountDownLatch(1);
+
+        private RecordingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saved.add(addressBook);
+            firstSaveStarted.countDown();
+            try {
+                firstSaveReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void awaitFirstSave() {
+            try {
+                firstSaveStarted.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private void releaseFirstSave() {
+            firstSaveReleased.countDown();
+        }
+    }
+}
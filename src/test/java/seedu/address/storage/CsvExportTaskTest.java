@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.property.Property;
+
+public class CsvExportTaskTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void exportProperties_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                CsvExportTask.exportProperties(getTypicalAddressBook().getPropertyList(), null));
+    }
+
+    @Test
+    public void exportProperties_listChangedAfterStart_exportsListAtStart() throws Exception {
+        File file = testFolder.resolve("TempProperties.csv").toFile();
+        List<Property> properties = new ArrayList<>(getTypicalAddressBook().getPropertyList());
+        List<Property> expectedProperties = new ArrayList<>(properties);
+
+        CsvExportTask task = CsvExportTask.exportProperties(properties, file);
+        properties.clear();
+
+        assertEquals(expectedProperties.size(), (int) task.getCompletion().get());
+        assertEquals(task.getTotalCount(), task.getExportedCount());
+        assertEquals(expectedProperties, CsvManager.importProperties(file));
+    }
+
+    @Test
+    public void run_cancelled_deletesFileAndFailsCompletion() throws Exception {
+        File file = testFolder.resolve("TempProperties.csv").toFile();
+        List<Property> properties = getTypicalAddressBook().getPropertyList();
+        CsvExportTask task = new CsvExportTask(file, properties.size(), monitor ->
+                CsvManager.exportProperties(properties, file, monitor));
+
+        task.cancel();
+        task.run();
+
+        assertTrue(task.isCancelled());
+        assertTrue(task.getCompletion().isCancelled());
+        assertThrows(CancellationException.class, () -> task.getCompletion().get());
+        assertFalse(file.exists());
+    }
+}
@@ -1,16 +1,21 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.property.Buyer;
 import seedu.address.model.property.Property;
@@ -36,6 +41,32 @@ public class CsvManagerTest {
         exportProperties(getTypicalAddressBook(), "TempProperties.csv");
     }
 
+    @Test
+    public void importProperties_exportedFile_success() throws Exception {
+        File file = testFolder.resolve("TempProperties.csv").toFile();
+        exportProperties(getTypicalAddressBook(), file);
+        assertEquals(getTypicalAddressBook().getPropertyList(), CsvManager.importProperties(file));
+    }
+
+    @Test
+    public void importProperties_invalidRows_throwsDataConversionException() throws Exception {
+        File file = testFolder.resolve("InvalidProperties.csv").toFile();
+        Files.write(file.toPath(), Arrays.asList(
+                "\"Name\",\"Address\",\"Seller Name\",\"Phone\",\"Email\",\"Price\",\"Tags\"",
+                "\"Mayflower\",\"Ang Mo Kio\",\"Alex Yeoh\",\"87438807\",\"alex@example.com\",\"654321\",\"\"",
+                "\"Geylang\",\"Geylang\",\"Alex Yeoh\",\"87438807\"",
+                "\"Mayflower\",\"Ang Mo Kio\",\"Alex Yeoh\",\"87438807\",\"alex@example.com\",\"654321\",\"\""));
+        String wrongColumnCount = String.format(CsvManager.MESSAGE_WRONG_COLUMN_COUNT, 7, 4);
+        String expectedMessage = String.join("\n",
+                String.format(ParallelAddressBookLoader.MESSAGE_INVALID_RECORD,
+                        ParallelAddressBookLoader.PROPERTIES_NAME, 1, wrongColumnCount),
+                String.format(ParallelAddressBookLoader.MESSAGE_DUPLICATE_RECORD,
+                        ParallelAddressBookLoader.PROPERTIES_NAME, 2, ParallelAddressBookLoader.PROPERTIES_NAME, 0));
+
+        assertThrows(DataConversionException.class, new IllegalValueException(expectedMessage).toString(), () ->
+                CsvManager.importProperties(file));
+    }
+
     private void exportProperties(List<Property> properties, File file) {
         try {
             CsvManager.exportProperties(properties, file);
@@ -76,6 +107,13 @@ public class CsvManagerTest {
         exportBuyers(getTypicalAddressBook(), "TempBuyers.csv");
     }
 
+    @Test
+    public void importBuyers_exportedFile_success() throws Exception {
+        File file = testFolder.resolve("TempBuyers.csv").toFile();
+        exportBuyers(getTypicalAddressBook(), file);
+        assertEquals(getTypicalAddressBook().getBuyerList(), CsvManager.importBuyers(file));
+    }
+
     private void exportBuyers(List<Buyer> buyers, File file) {
         try {
             CsvManager.exportBuyers(buyers, file);
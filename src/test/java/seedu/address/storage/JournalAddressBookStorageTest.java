@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_HOON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.field.SortDirection;
+import seedu.address.model.field.SortType;
+import seedu.address.testutil.PropertyBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("ab.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_journaledAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        original.addProperty(P_BENSON, new PropertyBuilder(P_BENSON).withPrice("123456").build());
+        original.removeProperty(P_ALICE);
+        original.addProperty(P_HOON);
+        original.addBuyer(B_ALICE);
+        storage.saveAddressBook(original);
+
+        // The snapshot is left untouched, with one journal record per change
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(4, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReading_compactedThenJournaled() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // The address book read is not a later version of the one saved, so the changes are not logged
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addProperty(P_HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+
+        addressBook.removeProperty(P_ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingJournaled() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsAddressBook_compacted() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addProperty(P_ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeProperty(P_ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalPath));
+
+        addressBook.addProperty(P_BENSON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacted() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.sortProperties(SortType.NAME, SortDirection.DESC);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndCompactedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addProperty(P_HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"op\":\"add\",\"li".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook restored = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(original, restored);
+
+        restartedStorage.saveAddressBook(restored);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteCompaction_previousSnapshotRead() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path temporaryPath = testFolder.resolve("ab.json.compacting.tmp");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(temporaryPath, "{\"properties\":[{\"na".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(temporaryPath));
+    }
+
+    @Test
+    public void readAddressBook_compactionMovedBeforeJournalDeleted_compactionFinished() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addProperty(P_HOON);
+        storage.saveAddressBook(addressBook);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, testFolder.resolve("ab.json.compacting"));
+
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"delete\",\"list\":\"properties\",\"index\":0}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -24,7 +24,7 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_typicalPropertiesFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PROPERTIES_FILE,
                 JsonSerializableAddressBook.class).get();
-        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        AddressBook addressBookFromFile = new AddressBook(dataFromFile.toModelType());
         AddressBook typicalPropertiesAddressBook = TypicalAddressBook.getTypicalAddressBook();
         assertEquals(addressBookFromFile, typicalPropertiesAddressBook);
     }
@@ -40,8 +40,9 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicateProperties_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PROPERTY_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY,
-                dataFromFile::toModelType);
+        String expectedMessage = String.format(ParallelAddressBookLoader.MESSAGE_DUPLICATE_RECORD,
+                ParallelAddressBookLoader.PROPERTIES_NAME, 1, ParallelAddressBookLoader.PROPERTIES_NAME, 0);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
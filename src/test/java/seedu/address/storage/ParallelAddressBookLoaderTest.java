@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBuyers.B_ALICE;
+import static seedu.address.testutil.TypicalBuyers.B_BENSON;
+import static seedu.address.testutil.TypicalProperties.P_ALICE;
+import static seedu.address.testutil.TypicalProperties.P_BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.property.Buyer;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PropertyBuilder;
+
+public class ParallelAddressBookLoaderTest {
+
+    private static final List<Buyer> BUYERS = Arrays.asList(B_ALICE, B_BENSON);
+
+    @Test
+    public void load_nullConverter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelAddressBookLoader.load(0, null, 0, BUYERS::get));
+    }
+
+    @Test
+    public void load_manyRecords_keepsOrder() throws Exception {
+        // More records than are converted by a single task
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            properties.add(new PropertyBuilder().withName("Property " + i).build());
+        }
+
+        ReadOnlyAddressBook addressBook = ParallelAddressBookLoader.load(properties.size(), properties::get,
+                BUYERS.size(), BUYERS::get);
+        assertEquals(properties, addressBook.getPropertyList());
+        assertEquals(BUYERS, addressBook.getBuyerList());
+    }
+
+    @Test
+    public void load_invalidAndDuplicateRecords_reportsAll() {
+        List<Property> properties = Arrays.asList(P_ALICE, P_BENSON, P_ALICE);
+        ParallelAddressBookLoader.RecordConverter<Buyer> buyerConverter = index -> {
+            if (index == 0) {
+                throw new IllegalValueException("Invalid buyer");
+            }
+            return BUYERS.get(index - 1);
+        };
+
+        String expectedMessage = String.join("\n",
+                String.format(ParallelAddressBookLoader.MESSAGE_DUPLICATE_RECORD,
+                        ParallelAddressBookLoader.PROPERTIES_NAME, 2, ParallelAddressBookLoader.PROPERTIES_NAME, 0),
+                String.format(ParallelAddressBookLoader.MESSAGE_INVALID_RECORD,
+                        ParallelAddressBookLoader.BUYERS_NAME, 0, "Invalid buyer"));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelAddressBookLoader.load(properties.size(), properties::get, 3, buyerConverter));
+    }
+
+    @Test
+    public void load_converterThrowsUnchecked_reportedWithOtherErrors() {
+        NullPointerException missingField = new NullPointerException();
+        ParallelAddressBookLoader.RecordConverter<Property> propertyConverter = index -> {
+            if (index == 0) {
+                throw new IllegalValueException("Invalid property");
+            }
+            throw missingField;
+        };
+
+        String expectedMessage = String.join("\n",
+                String.format(ParallelAddressBookLoader.MESSAGE_INVALID_RECORD,
+                        ParallelAddressBookLoader.PROPERTIES_NAME, 0, "Invalid property"),
+                String.format(ParallelAddressBookLoader.MESSAGE_INVALID_RECORD,
+                        ParallelAddressBookLoader.PROPERTIES_NAME, 1, missingField));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelAddressBookLoader.load(2, propertyConverter, BUYERS.size(), BUYERS::get));
+    }
+}